@@ -0,0 +1,134 @@
+package com.rd.core;
+
+import com.rd.animation.AnimationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures per-frame and per-scroll-event cost of indicator math for different circles count
+ * and each {@link AnimationType}. Frame benchmark walks circles visible in view width,
+ * the same way indicator does while drawing, but without actual rasterization.
+ * Run with {@code ./gradlew :pageindicatorview-core:jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IndicatorBenchmark {
+
+    private static final int RADIUS_PX = 18;
+    private static final int PADDING_PX = 24;
+    private static final int VIEW_WIDTH_PX = 1080;
+
+    private static final int UNSELECTED_COLOR = 0x33ffffff;
+    private static final int SELECTED_COLOR = 0xffffffff;
+    private static final float SCALE_FACTOR = 1.7f;
+
+    //Number of frames/events per one page scroll
+    private static final int STEPS = 60;
+
+    @Param({"3", "10", "100", "1000", "10000", "100000"})
+    public int count;
+
+    @Param({"0", "9"})
+    public int maxVisibleCount;
+
+    @Param({"NONE", "COLOR", "SCALE", "WORM", "SLIDE"})
+    public AnimationType type;
+
+    private IndicatorLayout layout;
+    private FrameEvaluator evaluator;
+    private ScrollProgress scrollProgress;
+
+    private int step;
+    private int selectedPosition;
+
+    @Setup
+    public void setup() {
+        layout = new IndicatorLayout();
+        evaluator = new FrameEvaluator();
+        scrollProgress = new ScrollProgress();
+
+        layout.init(count, RADIUS_PX, PADDING_PX, maxVisibleCount, VIEW_WIDTH_PX);
+        selectedPosition = count / 2;
+        layout.updateWindow(selectedPosition);
+
+        configure(selectedPosition, selectedPosition + 1);
+    }
+
+    @Benchmark
+    public void frame(Blackhole blackhole) {
+        step = (step + 1) % STEPS;
+        float fraction = (float) step / STEPS;
+
+        evaluator.evaluate(fraction);
+        blackhole.consume(evaluator.getColor());
+        blackhole.consume(evaluator.getRadius());
+        blackhole.consume(evaluator.getLeftX());
+        blackhole.consume(evaluator.getXCoordinate());
+
+        int firstPosition = layout.getFirstVisiblePosition(0);
+        int lastPosition = layout.getLastVisiblePosition(VIEW_WIDTH_PX);
+
+        for (int i = firstPosition; i <= lastPosition; i++) {
+            blackhole.consume(layout.getXCoordinate(i));
+        }
+    }
+
+    @Benchmark
+    public void scrollEvent(Blackhole blackhole) {
+        step = (step + 1) % STEPS;
+        float positionOffset = (float) step / STEPS;
+
+        scrollProgress.calculate(selectedPosition, selectedPosition, positionOffset);
+        int selectingPosition = scrollProgress.getSelectingPosition();
+        float progress = scrollProgress.getProgress();
+
+        int selected = scrollProgress.getSelectedPosition();
+        layout.updateWindow(selected + (selectingPosition - selected) * progress);
+
+        configure(selected, selectingPosition);
+        evaluator.evaluateProgress(progress);
+
+        blackhole.consume(evaluator.getColor());
+        blackhole.consume(evaluator.getLeftX());
+        blackhole.consume(evaluator.getXCoordinate());
+    }
+
+    @Benchmark
+    public void layout(Blackhole blackhole) {
+        layout.init(count, RADIUS_PX, PADDING_PX, maxVisibleCount, VIEW_WIDTH_PX);
+        blackhole.consume(layout.calculateActualWidth());
+    }
+
+    private void configure(int fromPosition, int toPosition) {
+        int fromX = layout.getXCoordinate(fromPosition);
+        int toX = layout.getXCoordinate(toPosition);
+
+        switch (type) {
+            case COLOR:
+                evaluator.color(UNSELECTED_COLOR, SELECTED_COLOR);
+                break;
+
+            case SCALE:
+                evaluator.scale(UNSELECTED_COLOR, SELECTED_COLOR, RADIUS_PX, SCALE_FACTOR);
+                break;
+
+            case WORM:
+                evaluator.worm(fromX, toX, RADIUS_PX, toPosition > fromPosition);
+                break;
+
+            case SLIDE:
+                evaluator.slide(fromX, toX);
+                break;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.rd.core;
+
+/**
+ * Precomputed blend between two colors, so color of animation frame is resolved by single
+ * array lookup of quantized fraction instead of blending each channel. Reverse blend is read
+ * from the same table backwards. Table array is allocated once and only refilled when colors change.
+ * Fraction is rounded to the nearest of table steps, so color could differ from
+ * {@link FrameEvaluator#evaluateColor(float, int, int)} by up to half of a step.
+ */
+public class ColorBlendTable {
+
+    public static final int DEFAULT_SIZE = 128;
+
+    private int[] colors;
+    private int startColor;
+    private int endColor;
+    private boolean isBuilt;
+
+    public ColorBlendTable() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param size number of precomputed colors, at least 2.
+     */
+    public ColorBlendTable(int size) {
+        colors = new int[Math.max(size, 2)];
+    }
+
+    /**
+     * Fill table with blend from start to end color. Does nothing if table is already built for the same colors.
+     */
+    public void build(int startColor, int endColor) {
+        if (isBuilt && this.startColor == startColor && this.endColor == endColor) {
+            return;
+        }
+
+        this.startColor = startColor;
+        this.endColor = endColor;
+        isBuilt = true;
+
+        int last = colors.length - 1;
+        for (int i = 0; i <= last; i++) {
+            colors[i] = FrameEvaluator.evaluateColor((float) i / last, startColor, endColor);
+        }
+    }
+
+    public int getStartColor() {
+        return startColor;
+    }
+
+    public int getEndColor() {
+        return endColor;
+    }
+
+    /**
+     * Return blend from start to end color for given fraction in range [0 - 1].
+     */
+    public int getColor(float fraction) {
+        return colors[getIndex(fraction)];
+    }
+
+    /**
+     * Return blend from end to start color for given fraction in range [0 - 1].
+     */
+    public int getReverseColor(float fraction) {
+        return colors[colors.length - 1 - getIndex(fraction)];
+    }
+
+    private int getIndex(float fraction) {
+        if (fraction <= 0) {
+            return 0;
+
+        } else if (fraction >= 1) {
+            return colors.length - 1;
+        }
+
+        return (int) (fraction * (colors.length - 1) + 0.5f);
+    }
+}
@@ -0,0 +1,327 @@
+package com.rd.core;
+
+import com.rd.animation.AnimationType;
+
+/**
+ * Computes animation frame values of each {@link AnimationType} directly from single
+ * primitive fraction. Frame values are stored in fields, so evaluation never allocates.
+ */
+public class FrameEvaluator {
+
+    private AnimationType type = AnimationType.NONE;
+
+    //Color
+    private int startColor;
+    private int endColor;
+    private int colorFrom;
+    private int colorReverseFrom;
+    private ColorBlendTable colorTable = new ColorBlendTable();
+
+    //Scale
+    private int startRadius;
+    private int endRadius;
+    private int radiusFrom;
+    private int radiusReverseFrom;
+
+    //Worm & Slide
+    private int fromX;
+    private int toX;
+    private int radius;
+    private boolean isRightSide;
+    private int leftXFrom;
+    private int rightXFrom;
+
+    //Frame values
+    private int color;
+    private int colorReverse;
+    private int radiusValue;
+    private int radiusReverseValue;
+    private int leftX;
+    private int rightX;
+    private int xCoordinate;
+
+    public void color(int colorStartValue, int colorEndValue) {
+        type = AnimationType.COLOR;
+        startColor = colorStartValue;
+        endColor = colorEndValue;
+        colorFrom = colorStartValue;
+        colorReverseFrom = colorEndValue;
+        colorTable.build(colorStartValue, colorEndValue);
+    }
+
+    public void scale(int colorStartValue, int colorEndValue, int radiusValue, float scaleFactorValue) {
+        type = AnimationType.SCALE;
+        startColor = colorStartValue;
+        endColor = colorEndValue;
+        colorFrom = colorStartValue;
+        colorReverseFrom = colorEndValue;
+        colorTable.build(colorStartValue, colorEndValue);
+
+        startRadius = (int) (radiusValue / scaleFactorValue);
+        endRadius = radiusValue;
+        radiusFrom = startRadius;
+        radiusReverseFrom = endRadius;
+    }
+
+    public void worm(int fromValue, int toValue, int radiusValue, boolean isRightSide) {
+        type = AnimationType.WORM;
+        fromX = fromValue;
+        toX = toValue;
+        radius = radiusValue;
+        this.isRightSide = isRightSide;
+        leftXFrom = fromValue - radiusValue;
+        rightXFrom = fromValue + radiusValue;
+    }
+
+    /**
+     * Start color animation from given frame values, e.g. to continue in-flight animation
+     * towards new target. Should be called after {@link #color(int, int)}.
+     */
+    public void colorFrom(int color, int colorReverse) {
+        colorFrom = color;
+        colorReverseFrom = colorReverse;
+    }
+
+    /**
+     * Start scale animation from given frame values, e.g. to continue in-flight animation
+     * towards new target. Should be called after {@link #scale(int, int, int, float)}.
+     */
+    public void scaleFrom(int color, int colorReverse, int radius, int radiusReverse) {
+        colorFrom(color, colorReverse);
+        radiusFrom = radius;
+        radiusReverseFrom = radiusReverse;
+    }
+
+    /**
+     * Start worm animation from given rect edges, e.g. to continue in-flight animation
+     * towards new target. Should be called after {@link #worm(int, int, int, boolean)}.
+     */
+    public void wormFrom(int leftX, int rightX) {
+        leftXFrom = leftX;
+        rightXFrom = rightX;
+    }
+
+    public void slide(int fromValue, int toValue) {
+        type = AnimationType.SLIDE;
+        fromX = fromValue;
+        toX = toValue;
+    }
+
+    /**
+     * Set up animation of given type between two circles the same way built-in animator of that type does.
+     * Values which given type doesn't use are ignored.
+     *
+     * @param type            type of animation, {@link AnimationType#NONE} keeps current animation.
+     * @param fromX           x coordinate of circle selection moves from.
+     * @param toX             x coordinate of circle selection moves to.
+     * @param isRightSide     true if selection moves to the right.
+     * @param radius          radius of selected circle in px.
+     * @param unselectedColor color of unselected circle.
+     * @param selectedColor   color of selected circle.
+     * @param scaleFactor     factor selected circle is scaled down by when unselected.
+     */
+    public void configure(AnimationType type, int fromX, int toX, boolean isRightSide,
+                          int radius, int unselectedColor, int selectedColor, float scaleFactor) {
+        switch (type) {
+            case COLOR:
+                color(unselectedColor, selectedColor);
+                break;
+
+            case SCALE:
+                scale(unselectedColor, selectedColor, radius, scaleFactor);
+                break;
+
+            case WORM:
+                worm(fromX, toX, radius, isRightSide);
+                break;
+
+            case SLIDE:
+                slide(fromX, toX);
+                break;
+        }
+    }
+
+    public AnimationType getType() {
+        return type;
+    }
+
+    /**
+     * Compute frame values of current animation type for given linear fraction in range [0 - 1].
+     *
+     * @return true if any of frame values was changed.
+     */
+    public boolean evaluate(float fraction) {
+        return evaluate(fraction, false);
+    }
+
+    /**
+     * Compute frame values for interactive progress in range [0 - 1]. Same as {@link #evaluate(float)},
+     * except that each half of worm follows {@link #interpolateProgress(float)} curve.
+     *
+     * @return true if any of frame values was changed.
+     */
+    public boolean evaluateProgress(float progress) {
+        return evaluate(progress, true);
+    }
+
+    private boolean evaluate(float fraction, boolean isProgress) {
+        int lastColor = color;
+        int lastColorReverse = colorReverse;
+        int lastRadius = radiusValue;
+        int lastRadiusReverse = radiusReverseValue;
+        int lastLeftX = leftX;
+        int lastRightX = rightX;
+        int lastXCoordinate = xCoordinate;
+
+        float value = interpolate(fraction);
+
+        switch (type) {
+            case COLOR:
+                evaluateColors(value);
+                break;
+
+            case SCALE:
+                evaluateColors(value);
+                radiusValue = evaluateInt(value, radiusFrom, endRadius);
+                radiusReverseValue = evaluateInt(value, radiusReverseFrom, startRadius);
+                break;
+
+            case WORM:
+                evaluateWorm(fraction, isProgress);
+                break;
+
+            case SLIDE:
+                xCoordinate = evaluateInt(value, fromX, toX);
+                break;
+        }
+
+        return color != lastColor
+                || colorReverse != lastColorReverse
+                || radiusValue != lastRadius
+                || radiusReverseValue != lastRadiusReverse
+                || leftX != lastLeftX
+                || rightX != lastRightX
+                || xCoordinate != lastXCoordinate;
+    }
+
+    public int getColor() {
+        return color;
+    }
+
+    public int getColorReverse() {
+        return colorReverse;
+    }
+
+    public int getRadius() {
+        return radiusValue;
+    }
+
+    public int getRadiusReverse() {
+        return radiusReverseValue;
+    }
+
+    public int getLeftX() {
+        return leftX;
+    }
+
+    public int getRightX() {
+        return rightX;
+    }
+
+    public int getXCoordinate() {
+        return xCoordinate;
+    }
+
+    /**
+     * Colors are looked up in precomputed blend table, unless animation was retargeted
+     * to start from arbitrary frame colors.
+     */
+    private void evaluateColors(float value) {
+        if (colorFrom == startColor) {
+            color = colorTable.getColor(value);
+        } else {
+            color = evaluateColor(value, colorFrom, endColor);
+        }
+
+        if (colorReverseFrom == endColor) {
+            colorReverse = colorTable.getReverseColor(value);
+        } else {
+            colorReverse = evaluateColor(value, colorReverseFrom, startColor);
+        }
+    }
+
+    /**
+     * Worm is played as two sequential halves: the leading edge of the rect moves first
+     * and the trailing edge follows, each of them interpolated separately.
+     */
+    private void evaluateWorm(float fraction, boolean isProgress) {
+        float straightFraction = fraction * 2;
+        if (straightFraction > 1) {
+            straightFraction = 1;
+        } else if (straightFraction < 0) {
+            straightFraction = 0;
+        }
+
+        float reverseFraction = fraction * 2 - 1;
+        if (reverseFraction < 0) {
+            reverseFraction = 0;
+        } else if (reverseFraction > 1) {
+            reverseFraction = 1;
+        }
+
+        float straightValue = isProgress ? interpolateProgress(straightFraction) : interpolate(straightFraction);
+        float reverseValue = isProgress ? interpolateProgress(reverseFraction) : interpolate(reverseFraction);
+
+        if (isRightSide) {
+            rightX = evaluateInt(straightValue, rightXFrom, toX + radius);
+            leftX = evaluateInt(reverseValue, leftXFrom, toX - radius);
+
+        } else {
+            leftX = evaluateInt(straightValue, leftXFrom, toX - radius);
+            rightX = evaluateInt(reverseValue, rightXFrom, toX + radius);
+        }
+    }
+
+    /**
+     * Same curve as default Android DecelerateInterpolator.
+     */
+    public static float interpolate(float fraction) {
+        float inverse = 1 - fraction;
+        return 1 - inverse * inverse;
+    }
+
+    /**
+     * Same curve as Android AccelerateDecelerateInterpolator, default one of ValueAnimator.
+     */
+    public static float interpolateProgress(float fraction) {
+        return (float) (Math.cos((fraction + 1) * Math.PI) / 2) + 0.5f;
+    }
+
+    /**
+     * Same result as Android IntEvaluator.
+     */
+    public static int evaluateInt(float fraction, int startValue, int endValue) {
+        return (int) (startValue + fraction * (endValue - startValue));
+    }
+
+    /**
+     * Blend each ARGB channel linearly in sRGB space, same as Android ArgbEvaluator did before API 26.
+     * Platform ArgbEvaluator blends in linear color space since API 26, so intermediate colors differ slightly there.
+     */
+    public static int evaluateColor(float fraction, int startValue, int endValue) {
+        int startA = (startValue >> 24) & 0xff;
+        int startR = (startValue >> 16) & 0xff;
+        int startG = (startValue >> 8) & 0xff;
+        int startB = startValue & 0xff;
+
+        int endA = (endValue >> 24) & 0xff;
+        int endR = (endValue >> 16) & 0xff;
+        int endG = (endValue >> 8) & 0xff;
+        int endB = endValue & 0xff;
+
+        return ((startA + (int) (fraction * (endA - startA))) << 24)
+                | ((startR + (int) (fraction * (endR - startR))) << 16)
+                | ((startG + (int) (fraction * (endG - startG))) << 8)
+                | (startB + (int) (fraction * (endB - startB)));
+    }
+}
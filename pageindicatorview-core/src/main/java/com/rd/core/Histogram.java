@@ -0,0 +1,115 @@
+package com.rd.core;
+
+/**
+ * Histogram of non negative long values (usually durations in nanoseconds) with power of two
+ * buckets. Values are aggregated into primitive counters only, so recording never allocates
+ * and histogram could be sampled periodically with {@link #copyTo(Histogram)}.
+ */
+public class Histogram {
+
+    public static final int BUCKETS_COUNT = 64;
+
+    private long[] buckets = new long[BUCKETS_COUNT];
+    private long count;
+    private long sum;
+    private long max;
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+
+        buckets[getBucket(value)]++;
+        count++;
+        sum += value;
+
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getMean() {
+        if (count == 0) {
+            return 0;
+        }
+
+        return sum / count;
+    }
+
+    /**
+     * Return number of recorded values in given bucket. Bucket {@code i} holds values
+     * in range [2^(i-1) - 2^i), bucket 0 holds zero values only.
+     */
+    public long getBucketCount(int bucket) {
+        return buckets[bucket];
+    }
+
+    /**
+     * Return upper bound of bucket, containing value at given percentile in range [0 - 100].
+     */
+    public long getValueAtPercentile(float percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long threshold = (long) Math.ceil(count * percentile / 100);
+        if (threshold < 1) {
+            threshold = 1;
+        }
+
+        long total = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            total += buckets[i];
+
+            if (total >= threshold) {
+                return Math.min(getBucketUpperBound(i), max);
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Copy all recorded values to given histogram, overriding its own ones.
+     */
+    public void copyTo(Histogram target) {
+        System.arraycopy(buckets, 0, target.buckets, 0, BUCKETS_COUNT);
+        target.count = count;
+        target.sum = sum;
+        target.max = max;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            buckets[i] = 0;
+        }
+
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    public static int getBucket(long value) {
+        return 64 - Long.numberOfLeadingZeros(value);
+    }
+
+    public static long getBucketUpperBound(int bucket) {
+        if (bucket == 0) {
+            return 0;
+        }
+
+        return (1L << bucket) - 1;
+    }
+}
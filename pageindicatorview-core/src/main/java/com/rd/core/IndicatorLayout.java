@@ -0,0 +1,301 @@
+package com.rd.core;
+
+/**
+ * Geometry of circle indicators: center coordinates, actual row width and window of visible
+ * circles. Has no Android dependencies, so it could be used and benchmarked on plain JVM.
+ */
+public class IndicatorLayout {
+
+    private int count;
+    private int radius;
+    private int padding;
+    private int maxVisibleCount;
+    private int width;
+
+    //Coordinates of visible circle centers
+    private int[] xCoordinates = new int[0];
+
+    //Window of visible circles
+    private float windowStart;
+    private int windowOffset;
+
+    /**
+     * Update layout values and rebuild table of circle centers, so {@link #getXCoordinate(int)}
+     * could be resolved in O(1). Cost of this call depends on number of visible circles only.
+     *
+     * @param count           total count of circles.
+     * @param radius          radius of each circle in px.
+     * @param padding         padding between circles in px.
+     * @param maxVisibleCount max number of visible circles or 0 to lay out all of them.
+     * @param width           available width in px.
+     */
+    public void init(int count, int radius, int padding, int maxVisibleCount, int width) {
+        this.count = count;
+        this.radius = radius;
+        this.padding = padding;
+        this.maxVisibleCount = maxVisibleCount > 0 ? maxVisibleCount : 0;
+        this.width = width;
+
+        int x = (width - calculateActualWidth()) / 2;
+        if (x < 0) {
+            x = 0;
+        }
+
+        int size = getVisibleCount();
+        if (xCoordinates.length != size) {
+            xCoordinates = new int[size];
+        }
+
+        for (int i = 0; i < size; i++) {
+            x += radius;
+            xCoordinates[i] = x;
+            x += radius + padding;
+        }
+
+        if (!isWindowed()) {
+            windowStart = 0;
+            windowOffset = 0;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public int getPadding() {
+        return padding;
+    }
+
+    public int getMaxVisibleCount() {
+        return maxVisibleCount;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Return x coordinate of circle center for given position.
+     */
+    public int getXCoordinate(int position) {
+        if (xCoordinates.length == 0) {
+            return 0;
+        }
+
+        if (isWindowed()) {
+            return xCoordinates[0] + (position * getStep()) - windowOffset;
+        }
+
+        if (position < 0) {
+            position = 0;
+
+        } else if (position > xCoordinates.length - 1) {
+            position = xCoordinates.length - 1;
+        }
+
+        return xCoordinates[position];
+    }
+
+    /**
+     * Return width of laid out circles row: all circles or visible window of them.
+     */
+    public int calculateActualWidth() {
+        int visibleCount = getVisibleCount();
+        if (visibleCount <= 0) {
+            return 0;
+        }
+
+        int diameter = radius * 2;
+        return (diameter * visibleCount) + (padding * (visibleCount - 1));
+    }
+
+    /**
+     * Return width required to lay out current circles or at least given number of circles,
+     * whichever is bigger, so size could be reserved in advance for count to grow.
+     *
+     * @param reservedCount number of circles to reserve width for, limited by max visible count.
+     */
+    public int calculateReservedWidth(int reservedCount) {
+        if (maxVisibleCount > 0 && reservedCount > maxVisibleCount) {
+            reservedCount = maxVisibleCount;
+        }
+
+        int visibleCount = Math.max(getVisibleCount(), reservedCount);
+        if (visibleCount <= 0) {
+            return 0;
+        }
+
+        int diameter = radius * 2;
+        return (diameter * visibleCount) + (padding * (visibleCount - 1));
+    }
+
+    /**
+     * Return number of circles laid out at once: total count or size of visible window.
+     */
+    public int getVisibleCount() {
+        if (count <= 0) {
+            return 0;
+        }
+
+        if (isWindowed()) {
+            return maxVisibleCount;
+        }
+
+        return count;
+    }
+
+    public boolean isWindowed() {
+        return maxVisibleCount > 0 && count > maxVisibleCount;
+    }
+
+    /**
+     * Return distance in px between centers of two neighbour circles.
+     */
+    public int getStep() {
+        return (radius * 2) + padding;
+    }
+
+    /**
+     * Return left bound in px of laid out circles row.
+     */
+    public int getLeft() {
+        if (xCoordinates.length == 0) {
+            return 0;
+        }
+
+        return xCoordinates[0] - radius;
+    }
+
+    /**
+     * Return right bound in px of laid out circles row.
+     */
+    public int getRight() {
+        if (xCoordinates.length == 0) {
+            return 0;
+        }
+
+        return xCoordinates[xCoordinates.length - 1] + radius;
+    }
+
+    /**
+     * Return first circle position, which bounds may intersect with given left clip edge.
+     */
+    public int getFirstVisiblePosition(int clipLeft) {
+        int step = getStep();
+        int offset = clipLeft - (getXCoordinate(0) + radius);
+        int position = 0;
+
+        if (step > 0 && offset > 0) {
+            position = offset / step;
+        }
+
+        if (isWindowed()) {
+            position = Math.max(position, getWindowFirstPosition());
+        }
+
+        return position;
+    }
+
+    /**
+     * Return last circle position, which bounds may intersect with given right clip edge.
+     */
+    public int getLastVisiblePosition(int clipRight) {
+        int step = getStep();
+        int offset = clipRight - (getXCoordinate(0) - radius);
+        int position = count - 1;
+
+        if (offset < 0) {
+            return -1;
+
+        } else if (step > 0) {
+            position = Math.min(offset / step, count - 1);
+        }
+
+        if (isWindowed()) {
+            position = Math.min(position, getWindowLastPosition());
+        }
+
+        return position;
+    }
+
+    /**
+     * Return first position inside of visible window (partially visible one included).
+     */
+    public int getWindowFirstPosition() {
+        return (int) windowStart;
+    }
+
+    /**
+     * Return last position inside of visible window (partially visible one included).
+     */
+    public int getWindowLastPosition() {
+        return Math.min(getWindowFirstPosition() + getVisibleCount(), count - 1);
+    }
+
+    public float getWindowStart() {
+        return windowStart;
+    }
+
+    /**
+     * Scroll visible window to keep given (possibly fractional) position in its center.
+     *
+     * @return true if window was scrolled by at least one pixel.
+     */
+    public boolean updateWindow(float position) {
+        if (!isWindowed()) {
+            windowStart = 0;
+            windowOffset = 0;
+            return false;
+        }
+
+        float start = position - (maxVisibleCount - 1) / 2f;
+        float maxStart = count - maxVisibleCount;
+
+        if (start < 0) {
+            start = 0;
+
+        } else if (start > maxStart) {
+            start = maxStart;
+        }
+
+        int offset = (int) (start * getStep());
+        windowStart = start;
+
+        if (windowOffset != offset) {
+            windowOffset = offset;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Return scale of circle radius in range [0 - 1] depending on its distance to the edge of
+     * visible window. Edges are shrunk only if there are hidden circles behind them.
+     */
+    public float getEdgeScale(int position) {
+        if (!isWindowed()) {
+            return 1;
+        }
+
+        float hiddenLeft = Math.min(windowStart, 1);
+        float hiddenRight = Math.min(count - maxVisibleCount - windowStart, 1);
+
+        float distanceLeft = position - windowStart + (1 - hiddenLeft);
+        float distanceRight = (windowStart + maxVisibleCount - 1) - position + (1 - hiddenRight);
+        float scale = (Math.min(distanceLeft, distanceRight) + 1) / 2;
+
+        if (scale < 0) {
+            scale = 0;
+
+        } else if (scale > 1) {
+            scale = 1;
+        }
+
+        return scale;
+    }
+}
@@ -0,0 +1,45 @@
+package com.rd.core;
+
+/**
+ * Tracks animated positions of the last invalidated animation frame, so frame which changes neither
+ * frame values nor animated positions is skipped, as it would be drawn exactly the same.
+ */
+public class InvalidationTracker {
+
+    private int animatedPosition = -1;
+    private int animatedReversePosition = -1;
+    private int trailingPosition = -1;
+
+    /**
+     * Forget last invalidated frame, so next frame is invalidated no matter of its values.
+     */
+    public void reset() {
+        animatedPosition = -1;
+        animatedReversePosition = -1;
+        trailingPosition = -1;
+    }
+
+    /**
+     * Decide whether animation frame should be invalidated and remember its positions if so.
+     *
+     * @param isFrameChanged          true if any of frame values was changed by this frame.
+     * @param animatedPosition        position selection moves to.
+     * @param animatedReversePosition position selection moves from.
+     * @param trailingPosition        position of circle still animated from previous selection, or -1 if there is none.
+     * @return true if frame should be invalidated.
+     */
+    public boolean onFrame(boolean isFrameChanged, int animatedPosition, int animatedReversePosition, int trailingPosition) {
+        boolean isPositionChanged = this.animatedPosition != animatedPosition
+                || this.animatedReversePosition != animatedReversePosition
+                || this.trailingPosition != trailingPosition;
+
+        if (!isFrameChanged && !isPositionChanged) {
+            return false;
+        }
+
+        this.animatedPosition = animatedPosition;
+        this.animatedReversePosition = animatedReversePosition;
+        this.trailingPosition = trailingPosition;
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+package com.rd.core;
+
+/**
+ * Maps pager scroll values (position and its offset) to selecting position and progress of
+ * animation. Result is stored in fields instead of being returned, as this is called on every
+ * scroll event, so the same instance should be reused between events.
+ */
+public class ScrollProgress {
+
+    private int selectedPosition;
+    private int selectingPosition;
+    private float progress;
+
+    /**
+     * Resolve selecting position and its progress.
+     *
+     * @param selectedPosition currently selected position.
+     * @param position         position of first visible page, as reported by pager.
+     * @param positionOffset   offset in range [0 - 1] of first visible page.
+     */
+    public void calculate(int selectedPosition, int position, float positionOffset) {
+        boolean isRightOverScrolled = position > selectedPosition;
+        boolean isLeftOverScrolled = position + 1 < selectedPosition;
+
+        if (isRightOverScrolled || isLeftOverScrolled) {
+            selectedPosition = position;
+        }
+
+        boolean isSlideToRightSide = selectedPosition == position && positionOffset != 0;
+        int selectingPosition;
+        float selectingProgress;
+
+        if (isSlideToRightSide) {
+            selectingPosition = position + 1;
+            selectingProgress = positionOffset;
+
+        } else {
+            selectingPosition = position;
+            selectingProgress = 1 - positionOffset;
+        }
+
+        if (selectingProgress > 1) {
+            selectingProgress = 1;
+
+        } else if (selectingProgress < 0) {
+            selectingProgress = 0;
+        }
+
+        this.selectedPosition = selectedPosition;
+        this.selectingPosition = selectingPosition;
+        this.progress = selectingProgress;
+    }
+
+    /**
+     * Return selected position, which could be changed in case pager was over scrolled.
+     */
+    public int getSelectedPosition() {
+        return selectedPosition;
+    }
+
+    public int getSelectingPosition() {
+        return selectingPosition;
+    }
+
+    public float getProgress() {
+        return progress;
+    }
+}
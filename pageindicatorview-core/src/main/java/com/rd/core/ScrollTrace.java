@@ -0,0 +1,29 @@
+package com.rd.core;
+
+/**
+ * Binary format of scroll traces, written by {@link ScrollTraceWriter} and read by {@code ScrollTraceReader} of tests.
+ * Trace starts with {@link #MAGIC} and {@link #VERSION} bytes, followed by events. Each event is its type byte,
+ * time passed since previous event in microseconds as unsigned varint and payload of its type:
+ * <ul>
+ * <li>{@link #EVENT_PAGE_SCROLLED}: position as unsigned varint and position offset as 4 bytes float bits;</li>
+ * <li>{@link #EVENT_PAGE_SELECTED}: position as unsigned varint;</li>
+ * <li>{@link #EVENT_SCROLL_STATE_CHANGED}: scroll state as unsigned varint.</li>
+ * </ul>
+ * Typical scroll event takes 7-8 bytes.
+ */
+public final class ScrollTrace {
+
+    static final byte[] MAGIC = {'P', 'I', 'V', 'T'};
+    static final byte VERSION = 1;
+
+    public static final int EVENT_PAGE_SCROLLED = 1;
+    public static final int EVENT_PAGE_SELECTED = 2;
+    public static final int EVENT_SCROLL_STATE_CHANGED = 3;
+
+    //Scroll states, same as ones of ViewPager
+    public static final int SCROLL_STATE_IDLE = 0;
+    public static final int SCROLL_STATE_DRAGGING = 1;
+    public static final int SCROLL_STATE_SETTLING = 2;
+
+    private ScrollTrace() {/*empty*/}
+}
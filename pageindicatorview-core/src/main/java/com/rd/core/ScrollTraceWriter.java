@@ -0,0 +1,175 @@
+package com.rd.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Records scroll events into in-memory {@link ScrollTrace}. Events are encoded into single growable
+ * byte array, so recording an event doesn't allocate unless array needs to grow. Array never grows beyond
+ * max size: once the next event doesn't fit, writer is full and drops all further events until {@link #reset()},
+ * so trace always holds uninterrupted sequence of events from its start.
+ * Trace could be exported with {@link #writeTo(OutputStream)} at any moment.
+ */
+public class ScrollTraceWriter {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    //Type byte, time delta and payload of the largest event: two varints of up to 10 bytes each and float bits
+    private static final int MAX_EVENT_SIZE = 1 + 10 + 10 + 4;
+
+    private byte[] buffer;
+    private int size;
+    private int maxSize;
+    private long lastTimeNanos = -1;
+    private boolean isFull;
+    private int droppedEvents;
+
+    public ScrollTraceWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity initial capacity of trace in bytes.
+     */
+    public ScrollTraceWriter(int capacity) {
+        this(capacity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param capacity initial capacity of trace in bytes.
+     * @param maxSize  max size of trace in bytes, including header.
+     */
+    public ScrollTraceWriter(int capacity, int maxSize) {
+        this.maxSize = Math.max(maxSize, ScrollTrace.MAGIC.length + 1);
+        buffer = new byte[Math.min(Math.max(capacity, ScrollTrace.MAGIC.length + 1), this.maxSize)];
+        reset();
+    }
+
+    /**
+     * Record pager scroll event.
+     *
+     * @param timeNanos      time of event in nanoseconds, e.g. from {@link System#nanoTime()}.
+     * @param position       position of first visible page.
+     * @param positionOffset offset in range [0 - 1] of first visible page.
+     */
+    public void writePageScrolled(long timeNanos, int position, float positionOffset) {
+        if (!writeEvent(ScrollTrace.EVENT_PAGE_SCROLLED, timeNanos)) {
+            return;
+        }
+
+        writeVarInt(position);
+
+        int bits = Float.floatToIntBits(positionOffset);
+        ensureCapacity(4);
+        buffer[size++] = (byte) (bits >>> 24);
+        buffer[size++] = (byte) (bits >>> 16);
+        buffer[size++] = (byte) (bits >>> 8);
+        buffer[size++] = (byte) bits;
+    }
+
+    /**
+     * Record page selection event.
+     */
+    public void writePageSelected(long timeNanos, int position) {
+        if (writeEvent(ScrollTrace.EVENT_PAGE_SELECTED, timeNanos)) {
+            writeVarInt(position);
+        }
+    }
+
+    /**
+     * Record scroll state change event.
+     */
+    public void writeScrollStateChanged(long timeNanos, int state) {
+        if (writeEvent(ScrollTrace.EVENT_SCROLL_STATE_CHANGED, timeNanos)) {
+            writeVarInt(state);
+        }
+    }
+
+    /**
+     * Return size of trace in bytes, including header.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Return true if trace reached its max size, so further events are dropped.
+     */
+    public boolean isFull() {
+        return isFull;
+    }
+
+    /**
+     * Return number of events dropped since trace became full.
+     */
+    public int getDroppedEvents() {
+        return droppedEvents;
+    }
+
+    public void writeTo(OutputStream stream) throws IOException {
+        stream.write(buffer, 0, size);
+    }
+
+    /**
+     * Drop all recorded events, keeping allocated buffer.
+     */
+    public void reset() {
+        System.arraycopy(ScrollTrace.MAGIC, 0, buffer, 0, ScrollTrace.MAGIC.length);
+        buffer[ScrollTrace.MAGIC.length] = ScrollTrace.VERSION;
+        size = ScrollTrace.MAGIC.length + 1;
+        lastTimeNanos = -1;
+        isFull = false;
+        droppedEvents = 0;
+    }
+
+    /**
+     * Write type and time of event, unless trace is full.
+     *
+     * @return false if event was dropped, so its payload should not be written.
+     */
+    private boolean writeEvent(int type, long timeNanos) {
+        if (isFull || size + MAX_EVENT_SIZE > maxSize) {
+            isFull = true;
+            droppedEvents++;
+            return false;
+        }
+
+        long deltaMicros = lastTimeNanos < 0 ? 0 : (timeNanos - lastTimeNanos) / 1000;
+        if (deltaMicros < 0) {
+            deltaMicros = 0;
+        }
+
+        //time is accumulated in whole microseconds, so rounding errors don't add up over trace
+        lastTimeNanos = lastTimeNanos < 0 ? timeNanos : lastTimeNanos + deltaMicros * 1000;
+
+        ensureCapacity(1);
+        buffer[size++] = (byte) type;
+        writeVarLong(deltaMicros);
+        return true;
+    }
+
+    private void writeVarInt(int value) {
+        writeVarLong(value < 0 ? 0 : value);
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    private void ensureCapacity(int count) {
+        if (size + count <= buffer.length) {
+            return;
+        }
+
+        //events are written only while the largest of them fits into max size, so size + count never exceeds it
+        byte[] newBuffer = new byte[(int) Math.min(Math.max(buffer.length * 2L, size + count), maxSize)];
+        System.arraycopy(buffer, 0, newBuffer, 0, size);
+        buffer = newBuffer;
+    }
+}
@@ -0,0 +1,131 @@
+package com.rd.core;
+
+/**
+ * Selection state of indicator: selected, selecting and last selected positions and progress of selecting.
+ * Pager scroll events are mapped to it through {@link ScrollProgress}, so indicator, coordinator of several
+ * indicators and trace replay follow the same state. Selecting position is kept within circles count.
+ */
+public class SelectionState {
+
+    private ScrollProgress scrollProgress = new ScrollProgress();
+    private int count = Integer.MAX_VALUE;
+
+    private int selectedPosition;
+    private int selectingPosition;
+    private int lastSelectedPosition;
+    private float progress;
+
+    /**
+     * Set number of circles positions are kept within. Count is not limited by default.
+     */
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    /**
+     * Select given position with no selection to move from.
+     */
+    public void reset(int position) {
+        selectedPosition = position;
+        selectingPosition = position;
+        lastSelectedPosition = position;
+        progress = 0;
+    }
+
+    /**
+     * Move selection from currently selected to given position.
+     */
+    public void select(int position) {
+        lastSelectedPosition = selectedPosition;
+        selectedPosition = position;
+        selectingPosition = position;
+        progress = 0;
+    }
+
+    /**
+     * Set progress of selecting given position, while selected one stays the same.
+     *
+     * @param selectingPosition selecting position with specific progress value.
+     * @param progress          float value of progress in range [0 - 1].
+     */
+    public void setProgress(int selectingPosition, float progress) {
+        if (selectingPosition < 0) {
+            selectingPosition = 0;
+
+        } else if (selectingPosition > count - 1) {
+            selectingPosition = count - 1;
+        }
+
+        if (progress < 0) {
+            progress = 0;
+
+        } else if (progress > 1) {
+            progress = 1;
+        }
+
+        this.selectingPosition = selectingPosition;
+        this.progress = progress;
+    }
+
+    /**
+     * Handle pager scroll event. Once selecting position is fully scrolled to, it becomes selected one.
+     *
+     * @param position       position of first visible page, as reported by pager.
+     * @param positionOffset offset in range [0 - 1] of first visible page.
+     */
+    public void onPageScrolled(int position, float positionOffset) {
+        scrollProgress.calculate(selectedPosition, position, positionOffset);
+
+        int selecting = scrollProgress.getSelectingPosition();
+        float selectingProgress = scrollProgress.getProgress();
+        selectedPosition = scrollProgress.getSelectedPosition();
+
+        if (selectingProgress == 1) {
+            lastSelectedPosition = selectedPosition;
+            selectedPosition = selecting;
+        }
+
+        setProgress(selecting, selectingProgress);
+    }
+
+    /**
+     * Copy state of another selection, e.g. calculated once for several indicators of the same pager.
+     * Positions are clamped by count of this selection, which could be smaller than count of copied one.
+     */
+    public void set(SelectionState state) {
+        selectedPosition = clamp(state.selectedPosition);
+        lastSelectedPosition = clamp(state.lastSelectedPosition);
+        setProgress(state.selectingPosition, state.progress);
+    }
+
+    public int getSelectedPosition() {
+        return selectedPosition;
+    }
+
+    public int getSelectingPosition() {
+        return selectingPosition;
+    }
+
+    public int getLastSelectedPosition() {
+        return lastSelectedPosition;
+    }
+
+    public float getProgress() {
+        return progress;
+    }
+
+    private int clamp(int position) {
+        if (position > count - 1) {
+            position = count - 1;
+        }
+
+        return position < 0 ? 0 : position;
+    }
+
+    /**
+     * Return fractional position selection is scrolled to, between selected and selecting ones.
+     */
+    public float getScrollPosition() {
+        return selectedPosition + (selectingPosition - selectedPosition) * progress;
+    }
+}
@@ -0,0 +1,42 @@
+package com.rd.core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads number of bytes allocated by thread it was created on, if JVM counts allocations per thread.
+ * Thread bean is resolved once, as looking it up allocates on its own, while reading counter doesn't,
+ * so difference of two reads is exactly what code between them allocated.
+ * Test helper only, as thread bean of {@code com.sun.management} isn't available on Android.
+ */
+public class AllocationCounter {
+
+    private com.sun.management.ThreadMXBean bean;
+    private long threadId;
+
+    public AllocationCounter() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) threadBean;
+            if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                bean = sunBean;
+            }
+        }
+
+        threadId = Thread.currentThread().getId();
+    }
+
+    /**
+     * Return true if JVM counts allocations per thread.
+     */
+    public boolean isSupported() {
+        return bean != null;
+    }
+
+    /**
+     * Return total bytes allocated by thread so far, or -1 if allocations are not counted.
+     */
+    public long getAllocatedBytes() {
+        return bean != null ? bean.getThreadAllocatedBytes(threadId) : -1;
+    }
+}
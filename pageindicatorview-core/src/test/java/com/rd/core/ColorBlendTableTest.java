@@ -0,0 +1,89 @@
+package com.rd.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ColorBlendTableTest {
+
+    private static final int START_COLOR = 0x33ffffff;
+    private static final int END_COLOR = 0xff000000;
+
+    @Test
+    public void edgesAreExactColors() {
+        ColorBlendTable table = new ColorBlendTable();
+        table.build(START_COLOR, END_COLOR);
+
+        assertEquals(START_COLOR, table.getColor(0));
+        assertEquals(END_COLOR, table.getColor(1));
+        assertEquals(END_COLOR, table.getReverseColor(0));
+        assertEquals(START_COLOR, table.getReverseColor(1));
+    }
+
+    @Test
+    public void fractionOutOfRangeIsClamped() {
+        ColorBlendTable table = new ColorBlendTable();
+        table.build(START_COLOR, END_COLOR);
+
+        assertEquals(START_COLOR, table.getColor(-1));
+        assertEquals(END_COLOR, table.getColor(2));
+    }
+
+    @Test
+    public void lookupIsWithinHalfStepOfBlend() {
+        ColorBlendTable table = new ColorBlendTable();
+        table.build(START_COLOR, END_COLOR);
+
+        float halfStep = 0.5f / (ColorBlendTable.DEFAULT_SIZE - 1);
+        for (int i = 0; i <= 1000; i++) {
+            float fraction = i / 1000f;
+            int color = table.getColor(fraction);
+
+            int lower = FrameEvaluator.evaluateColor(Math.max(fraction - halfStep, 0), START_COLOR, END_COLOR);
+            int upper = FrameEvaluator.evaluateColor(Math.min(fraction + halfStep, 1), START_COLOR, END_COLOR);
+            assertChannelsBetween(color, lower, upper);
+        }
+    }
+
+    @Test
+    public void reverseColorReadsTableBackwards() {
+        ColorBlendTable table = new ColorBlendTable(5);
+        table.build(START_COLOR, END_COLOR);
+
+        assertEquals(table.getColor(0.25f), table.getReverseColor(0.75f));
+        assertEquals(table.getColor(0.5f), table.getReverseColor(0.5f));
+    }
+
+    @Test
+    public void rebuildsOnlyForNewColors() {
+        ColorBlendTable table = new ColorBlendTable();
+        table.build(START_COLOR, END_COLOR);
+        table.build(START_COLOR, END_COLOR);
+        assertEquals(START_COLOR, table.getStartColor());
+
+        table.build(END_COLOR, START_COLOR);
+        assertEquals(END_COLOR, table.getStartColor());
+        assertEquals(START_COLOR, table.getEndColor());
+        assertEquals(END_COLOR, table.getColor(0));
+    }
+
+    @Test
+    public void sizeIsAtLeastTwo() {
+        ColorBlendTable table = new ColorBlendTable(0);
+        table.build(START_COLOR, END_COLOR);
+
+        assertEquals(START_COLOR, table.getColor(0.4f));
+        assertEquals(END_COLOR, table.getColor(0.6f));
+    }
+
+    private static void assertChannelsBetween(int color, int lower, int upper) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            int value = (color >> shift) & 0xff;
+            int bound1 = (lower >> shift) & 0xff;
+            int bound2 = (upper >> shift) & 0xff;
+
+            assertTrue(value >= Math.min(bound1, bound2) && value <= Math.max(bound1, bound2));
+        }
+    }
+}
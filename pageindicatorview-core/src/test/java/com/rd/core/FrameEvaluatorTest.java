@@ -0,0 +1,191 @@
+package com.rd.core;
+
+import com.rd.animation.AnimationType;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FrameEvaluatorTest {
+
+    private static final int START_COLOR = 0x33ffffff;
+    private static final int END_COLOR = 0xffffffff;
+
+    private FrameEvaluator evaluator;
+
+    @Before
+    public void setUp() {
+        evaluator = new FrameEvaluator();
+    }
+
+    @Test
+    public void interpolationCurves() {
+        assertEquals(0f, FrameEvaluator.interpolate(0), 0);
+        assertEquals(0.75f, FrameEvaluator.interpolate(0.5f), 0);
+        assertEquals(1f, FrameEvaluator.interpolate(1), 0);
+
+        assertEquals(0f, FrameEvaluator.interpolateProgress(0), 1e-6);
+        assertEquals(0.5f, FrameEvaluator.interpolateProgress(0.5f), 1e-6);
+        assertEquals(1f, FrameEvaluator.interpolateProgress(1), 1e-6);
+    }
+
+    @Test
+    public void evaluateInt() {
+        assertEquals(10, FrameEvaluator.evaluateInt(0, 10, 20));
+        assertEquals(15, FrameEvaluator.evaluateInt(0.5f, 10, 20));
+        assertEquals(20, FrameEvaluator.evaluateInt(1, 10, 20));
+        assertEquals(15, FrameEvaluator.evaluateInt(0.5f, 20, 10));
+    }
+
+    @Test
+    public void evaluateColorBlendsEachChannel() {
+        assertEquals(0x00000000, FrameEvaluator.evaluateColor(0, 0x00000000, 0xff804020));
+        assertEquals(0x7f402010, FrameEvaluator.evaluateColor(0.5f, 0x00000000, 0xff804020));
+        assertEquals(0xff804020, FrameEvaluator.evaluateColor(1, 0x00000000, 0xff804020));
+    }
+
+    @Test
+    public void colorFrames() {
+        evaluator.color(START_COLOR, END_COLOR);
+        assertEquals(AnimationType.COLOR, evaluator.getType());
+
+        evaluator.evaluate(0);
+        assertEquals(START_COLOR, evaluator.getColor());
+        assertEquals(END_COLOR, evaluator.getColorReverse());
+
+        evaluator.evaluate(1);
+        assertEquals(END_COLOR, evaluator.getColor());
+        assertEquals(START_COLOR, evaluator.getColorReverse());
+    }
+
+    @Test
+    public void colorFramesContinueFromGivenValues() {
+        int color = FrameEvaluator.evaluateColor(0.5f, START_COLOR, END_COLOR);
+        evaluator.color(START_COLOR, END_COLOR);
+        evaluator.colorFrom(color, color);
+
+        evaluator.evaluate(0);
+        assertEquals(color, evaluator.getColor());
+        assertEquals(color, evaluator.getColorReverse());
+
+        evaluator.evaluate(1);
+        assertEquals(END_COLOR, evaluator.getColor());
+        assertEquals(START_COLOR, evaluator.getColorReverse());
+    }
+
+    @Test
+    public void scaleFrames() {
+        evaluator.scale(START_COLOR, END_COLOR, 20, 2);
+
+        evaluator.evaluate(0);
+        assertEquals(10, evaluator.getRadius());
+        assertEquals(20, evaluator.getRadiusReverse());
+
+        evaluator.evaluate(1);
+        assertEquals(20, evaluator.getRadius());
+        assertEquals(10, evaluator.getRadiusReverse());
+        assertEquals(END_COLOR, evaluator.getColor());
+    }
+
+    @Test
+    public void slideFrames() {
+        evaluator.slide(100, 200);
+
+        evaluator.evaluate(0);
+        assertEquals(100, evaluator.getXCoordinate());
+
+        evaluator.evaluate(0.5f);
+        assertEquals(175, evaluator.getXCoordinate());
+
+        evaluator.evaluate(1);
+        assertEquals(200, evaluator.getXCoordinate());
+    }
+
+    @Test
+    public void wormStretchesLeadingEdgeFirst() {
+        evaluator.worm(100, 200, 10, true);
+
+        evaluator.evaluate(0);
+        assertEquals(90, evaluator.getLeftX());
+        assertEquals(110, evaluator.getRightX());
+
+        evaluator.evaluate(0.5f);
+        assertEquals(90, evaluator.getLeftX());
+        assertEquals(210, evaluator.getRightX());
+
+        evaluator.evaluate(1);
+        assertEquals(190, evaluator.getLeftX());
+        assertEquals(210, evaluator.getRightX());
+    }
+
+    @Test
+    public void wormToTheLeft() {
+        evaluator.worm(200, 100, 10, false);
+
+        evaluator.evaluate(0.5f);
+        assertEquals(90, evaluator.getLeftX());
+        assertEquals(210, evaluator.getRightX());
+
+        evaluator.evaluate(1);
+        assertEquals(90, evaluator.getLeftX());
+        assertEquals(110, evaluator.getRightX());
+    }
+
+    @Test
+    public void wormProgressFollowsAccelerateDecelerateCurve() {
+        evaluator.worm(100, 200, 10, true);
+
+        evaluator.evaluateProgress(0.25f);
+        assertEquals(160, evaluator.getRightX());
+        assertEquals(90, evaluator.getLeftX());
+
+        evaluator.evaluate(0.25f);
+        assertEquals(185, evaluator.getRightX());
+    }
+
+    @Test
+    public void wormContinuesFromGivenEdges() {
+        evaluator.worm(100, 200, 10, true);
+        evaluator.wormFrom(50, 150);
+
+        evaluator.evaluate(0);
+        assertEquals(50, evaluator.getLeftX());
+        assertEquals(150, evaluator.getRightX());
+
+        evaluator.evaluate(1);
+        assertEquals(190, evaluator.getLeftX());
+        assertEquals(210, evaluator.getRightX());
+    }
+
+    @Test
+    public void evaluateReportsChangedFrame() {
+        evaluator.slide(0, 100);
+
+        assertTrue(evaluator.evaluateProgress(0.5f));
+        assertFalse(evaluator.evaluateProgress(0.5f));
+        assertTrue(evaluator.evaluate(1));
+        assertFalse(evaluator.evaluateProgress(1));
+    }
+
+    @Test
+    public void configureSetsUpGivenType() {
+        evaluator.configure(AnimationType.WORM, 0, 100, true, 10, START_COLOR, END_COLOR, 1.7f);
+        assertEquals(AnimationType.WORM, evaluator.getType());
+
+        evaluator.evaluate(1);
+        assertEquals(90, evaluator.getLeftX());
+        assertEquals(110, evaluator.getRightX());
+
+        evaluator.configure(AnimationType.SCALE, 0, 100, true, 17, START_COLOR, END_COLOR, 1.7f);
+        assertEquals(AnimationType.SCALE, evaluator.getType());
+
+        evaluator.evaluate(0);
+        assertEquals(10, evaluator.getRadius());
+        assertEquals(17, evaluator.getRadiusReverse());
+
+        evaluator.configure(AnimationType.NONE, 0, 100, true, 10, START_COLOR, END_COLOR, 1.7f);
+        assertEquals(AnimationType.SCALE, evaluator.getType());
+    }
+}
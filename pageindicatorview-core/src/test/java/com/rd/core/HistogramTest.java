@@ -0,0 +1,102 @@
+package com.rd.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class HistogramTest {
+
+    private Histogram histogram;
+
+    @Before
+    public void setUp() {
+        histogram = new Histogram();
+    }
+
+    @Test
+    public void emptyHistogram() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void bucketsArePowersOfTwo() {
+        assertEquals(0, Histogram.getBucket(0));
+        assertEquals(1, Histogram.getBucket(1));
+        assertEquals(2, Histogram.getBucket(2));
+        assertEquals(2, Histogram.getBucket(3));
+        assertEquals(3, Histogram.getBucket(4));
+        assertEquals(63, Histogram.getBucket(Long.MAX_VALUE));
+
+        assertEquals(0, Histogram.getBucketUpperBound(0));
+        assertEquals(1, Histogram.getBucketUpperBound(1));
+        assertEquals(3, Histogram.getBucketUpperBound(2));
+        assertEquals(7, Histogram.getBucketUpperBound(3));
+    }
+
+    @Test
+    public void recordsCountSumAndMax() {
+        histogram.record(10);
+        histogram.record(20);
+        histogram.record(30);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(60, histogram.getSum());
+        assertEquals(20, histogram.getMean());
+        assertEquals(30, histogram.getMax());
+        assertEquals(1, histogram.getBucketCount(Histogram.getBucket(10)));
+    }
+
+    @Test
+    public void negativeValuesAreRecordedAsZero() {
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getBucketCount(0));
+        assertEquals(0, histogram.getSum());
+    }
+
+    @Test
+    public void percentileReturnsUpperBoundOfBucket() {
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(5000);
+
+        //100 falls into [64 - 127] bucket
+        assertEquals(127, histogram.getValueAtPercentile(50));
+        assertEquals(127, histogram.getValueAtPercentile(99));
+        assertEquals(5000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void percentileIsLimitedByMax() {
+        histogram.record(70);
+
+        assertEquals(70, histogram.getValueAtPercentile(50));
+        assertEquals(70, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void copyAndReset() {
+        histogram.record(10);
+        histogram.record(1000);
+
+        Histogram copy = new Histogram();
+        copy.record(1);
+        histogram.copyTo(copy);
+
+        assertEquals(2, copy.getCount());
+        assertEquals(1010, copy.getSum());
+        assertEquals(1000, copy.getMax());
+        assertEquals(0, copy.getBucketCount(1));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getBucketCount(Histogram.getBucket(10)));
+        assertEquals(2, copy.getCount());
+    }
+}
@@ -0,0 +1,158 @@
+package com.rd.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IndicatorLayoutTest {
+
+    private static final int RADIUS = 10;
+    private static final int PADDING = 4;
+    private static final int STEP = RADIUS * 2 + PADDING;
+
+    private IndicatorLayout layout;
+
+    @Before
+    public void setUp() {
+        layout = new IndicatorLayout();
+    }
+
+    @Test
+    public void centersRowWithinWidth() {
+        layout.init(3, RADIUS, PADDING, 0, 200);
+
+        int actualWidth = 3 * RADIUS * 2 + 2 * PADDING;
+        int left = (200 - actualWidth) / 2;
+
+        assertEquals(actualWidth, layout.calculateActualWidth());
+        assertEquals(left + RADIUS, layout.getXCoordinate(0));
+        assertEquals(left + RADIUS + STEP, layout.getXCoordinate(1));
+        assertEquals(left + RADIUS + STEP * 2, layout.getXCoordinate(2));
+        assertEquals(left, layout.getLeft());
+        assertEquals(left + actualWidth, layout.getRight());
+    }
+
+    @Test
+    public void startsAtZeroWhenWidthIsTooSmall() {
+        layout.init(5, RADIUS, PADDING, 0, 10);
+
+        assertEquals(RADIUS, layout.getXCoordinate(0));
+    }
+
+    @Test
+    public void clampsPositionOutOfRange() {
+        layout.init(3, RADIUS, PADDING, 0, 0);
+
+        assertEquals(layout.getXCoordinate(0), layout.getXCoordinate(-1));
+        assertEquals(layout.getXCoordinate(2), layout.getXCoordinate(5));
+    }
+
+    @Test
+    public void emptyLayout() {
+        layout.init(0, RADIUS, PADDING, 0, 100);
+
+        assertEquals(0, layout.getVisibleCount());
+        assertEquals(0, layout.calculateActualWidth());
+        assertEquals(0, layout.getXCoordinate(0));
+        assertEquals(0, layout.getLeft());
+        assertEquals(0, layout.getRight());
+    }
+
+    @Test
+    public void reservedWidthIsLimitedByMaxVisibleCount() {
+        layout.init(2, RADIUS, PADDING, 5, 0);
+
+        assertEquals(layout.calculateActualWidth(), layout.calculateReservedWidth(0));
+        assertEquals(4 * RADIUS * 2 + 3 * PADDING, layout.calculateReservedWidth(4));
+        assertEquals(5 * RADIUS * 2 + 4 * PADDING, layout.calculateReservedWidth(10));
+    }
+
+    @Test
+    public void windowedOnlyWhenCountExceedsMaxVisible() {
+        layout.init(5, RADIUS, PADDING, 5, 0);
+        assertFalse(layout.isWindowed());
+        assertEquals(5, layout.getVisibleCount());
+
+        layout.init(6, RADIUS, PADDING, 5, 0);
+        assertTrue(layout.isWindowed());
+        assertEquals(5, layout.getVisibleCount());
+    }
+
+    @Test
+    public void windowKeepsPositionCentered() {
+        layout.init(20, RADIUS, PADDING, 5, 0);
+        int firstX = layout.getXCoordinate(0);
+
+        assertTrue(layout.updateWindow(10));
+        assertEquals(8f, layout.getWindowStart(), 0);
+        assertEquals(8, layout.getWindowFirstPosition());
+        assertEquals(13, layout.getWindowLastPosition());
+        assertEquals(firstX + 2 * STEP, layout.getXCoordinate(10));
+
+        assertFalse(layout.updateWindow(10));
+    }
+
+    @Test
+    public void windowIsClampedAtEdges() {
+        layout.init(20, RADIUS, PADDING, 5, 0);
+
+        layout.updateWindow(1);
+        assertEquals(0f, layout.getWindowStart(), 0);
+
+        layout.updateWindow(19);
+        assertEquals(15f, layout.getWindowStart(), 0);
+        assertEquals(19, layout.getWindowLastPosition());
+    }
+
+    @Test
+    public void windowScrollsByFraction() {
+        layout.init(20, RADIUS, PADDING, 5, 0);
+        layout.updateWindow(10);
+        int x = layout.getXCoordinate(10);
+
+        assertTrue(layout.updateWindow(10.5f));
+        assertEquals(x - STEP / 2, layout.getXCoordinate(10));
+    }
+
+    @Test
+    public void visiblePositionsFollowClip() {
+        layout.init(10, RADIUS, PADDING, 0, 0);
+
+        assertEquals(0, layout.getFirstVisiblePosition(0));
+        assertEquals(9, layout.getLastVisiblePosition(layout.getRight()));
+
+        int clipLeft = layout.getXCoordinate(3);
+        int clipRight = layout.getXCoordinate(5);
+        assertTrue(layout.getFirstVisiblePosition(clipLeft) <= 3);
+        assertTrue(layout.getLastVisiblePosition(clipRight) >= 5);
+        assertEquals(-1, layout.getLastVisiblePosition(-1));
+    }
+
+    @Test
+    public void visiblePositionsAreLimitedByWindow() {
+        layout.init(20, RADIUS, PADDING, 5, 0);
+        layout.updateWindow(10);
+
+        assertEquals(8, layout.getFirstVisiblePosition(layout.getLeft()));
+        assertEquals(12, layout.getLastVisiblePosition(layout.getRight()));
+    }
+
+    @Test
+    public void edgesShrinkOnlyWithHiddenCircles() {
+        layout.init(3, RADIUS, PADDING, 0, 0);
+        assertEquals(1f, layout.getEdgeScale(0), 0);
+
+        layout.init(20, RADIUS, PADDING, 5, 0);
+        layout.updateWindow(0);
+        assertEquals(1f, layout.getEdgeScale(0), 0);
+        assertEquals(0.5f, layout.getEdgeScale(4), 0);
+
+        layout.updateWindow(10);
+        assertEquals(0.5f, layout.getEdgeScale(8), 0);
+        assertEquals(1f, layout.getEdgeScale(10), 0);
+        assertEquals(0.5f, layout.getEdgeScale(12), 0);
+    }
+}
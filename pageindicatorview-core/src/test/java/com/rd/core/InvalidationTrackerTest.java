@@ -0,0 +1,52 @@
+package com.rd.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InvalidationTrackerTest {
+
+    private InvalidationTracker tracker;
+
+    @Before
+    public void setUp() {
+        tracker = new InvalidationTracker();
+    }
+
+    @Test
+    public void firstFrameIsInvalidated() {
+        assertTrue(tracker.onFrame(false, 1, 0, -1));
+    }
+
+    @Test
+    public void sameFrameIsSkipped() {
+        tracker.onFrame(true, 1, 0, -1);
+
+        assertFalse(tracker.onFrame(false, 1, 0, -1));
+    }
+
+    @Test
+    public void changedFrameValuesAreInvalidated() {
+        tracker.onFrame(true, 1, 0, -1);
+
+        assertTrue(tracker.onFrame(true, 1, 0, -1));
+    }
+
+    @Test
+    public void changedPositionsAreInvalidated() {
+        tracker.onFrame(true, 1, 0, -1);
+
+        assertTrue(tracker.onFrame(false, 2, 1, -1));
+        assertTrue(tracker.onFrame(false, 2, 1, 0));
+    }
+
+    @Test
+    public void resetForcesNextFrame() {
+        tracker.onFrame(true, 1, 0, -1);
+        tracker.reset();
+
+        assertTrue(tracker.onFrame(false, 1, 0, -1));
+    }
+}
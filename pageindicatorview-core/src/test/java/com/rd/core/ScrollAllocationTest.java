@@ -0,0 +1,129 @@
+package com.rd.core;
+
+import com.rd.animation.AnimationType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Feeds scroll over several pages for each {@link AnimationType} through core scroll path of indicator:
+ * {@link SelectionState}, window of {@link IndicatorLayout}, frame values of {@link FrameEvaluator} and
+ * {@link InvalidationTracker}, and checks that, once warmed up, it doesn't allocate on any scroll event.
+ */
+public class ScrollAllocationTest {
+
+    private static final int COUNT = 100;
+    private static final int PAGES = 10;
+    private static final int STEPS_PER_PAGE = 20;
+    private static final int WARMUP_ITERATIONS = 50;
+
+    private static final int RADIUS_PX = 18;
+    private static final int PADDING_PX = 24;
+    private static final int WIDTH_PX = 1080;
+    private static final int UNSELECTED_COLOR = 0x33ffffff;
+    private static final int SELECTED_COLOR = 0xffffffff;
+    private static final float SCALE_FACTOR = 1.7f;
+
+    private ScrollTraceReader reader;
+    private AllocationCounter counter;
+
+    private IndicatorLayout layout = new IndicatorLayout();
+    private FrameEvaluator evaluator = new FrameEvaluator();
+    private SelectionState selection = new SelectionState();
+    private InvalidationTracker invalidationTracker = new InvalidationTracker();
+
+    @Before
+    public void setUp() throws IOException {
+        counter = new AllocationCounter();
+        assumeTrue(counter.isSupported());
+
+        ScrollTraceWriter writer = new ScrollTraceWriter();
+        long timeNanos = 0;
+
+        //scroll forward page by page and then back
+        for (int page = 0; page < PAGES; page++) {
+            for (int step = 0; step < STEPS_PER_PAGE; step++) {
+                timeNanos += 16000000;
+                writer.writePageScrolled(timeNanos, page, (float) step / STEPS_PER_PAGE);
+            }
+            writer.writePageSelected(timeNanos, page + 1);
+        }
+
+        for (int page = PAGES - 1; page >= 0; page--) {
+            for (int step = STEPS_PER_PAGE; step > 0; step--) {
+                timeNanos += 16000000;
+                writer.writePageScrolled(timeNanos, page, (float) step / STEPS_PER_PAGE);
+            }
+            writer.writePageSelected(timeNanos, page);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.writeTo(bytes);
+        reader = new ScrollTraceReader(bytes.toByteArray());
+    }
+
+    @Test
+    public void scrollDoesNotAllocate() throws IOException {
+        for (AnimationType type : AnimationType.values()) {
+            assertNoAllocations(type, 0);
+        }
+    }
+
+    @Test
+    public void windowedScrollDoesNotAllocate() throws IOException {
+        for (AnimationType type : AnimationType.values()) {
+            assertNoAllocations(type, 5);
+        }
+    }
+
+    private void assertNoAllocations(AnimationType type, int maxVisibleCount) throws IOException {
+        layout.init(COUNT, RADIUS_PX, PADDING_PX, maxVisibleCount, WIDTH_PX);
+        selection.setCount(COUNT);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            scroll(type);
+        }
+
+        long startBytes = counter.getAllocatedBytes();
+        scroll(type);
+        long endBytes = counter.getAllocatedBytes();
+
+        assertEquals(type + " bytes allocated by scroll events", 0, endBytes - startBytes);
+    }
+
+    /**
+     * Handle every scroll event of trace the same way indicator with interactive animation does.
+     */
+    private void scroll(AnimationType type) throws IOException {
+        reader.rewind();
+        selection.reset(0);
+        layout.updateWindow(0);
+        invalidationTracker.reset();
+
+        while (reader.next()) {
+            if (reader.getType() != ScrollTrace.EVENT_PAGE_SCROLLED) {
+                continue;
+            }
+
+            selection.onPageScrolled(reader.getPosition(), reader.getPositionOffset());
+            layout.updateWindow(selection.getScrollPosition());
+
+            int selectedPosition = selection.getSelectedPosition();
+            int selectingPosition = selection.getSelectingPosition();
+
+            evaluator.configure(type,
+                    layout.getXCoordinate(selectedPosition),
+                    layout.getXCoordinate(selectingPosition),
+                    selectingPosition > selectedPosition,
+                    RADIUS_PX, UNSELECTED_COLOR, SELECTED_COLOR, SCALE_FACTOR);
+            boolean isFrameChanged = evaluator.evaluateProgress(selection.getProgress());
+
+            invalidationTracker.onFrame(isFrameChanged, selectingPosition, selectedPosition, -1);
+        }
+    }
+}
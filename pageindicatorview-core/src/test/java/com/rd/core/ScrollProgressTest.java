@@ -0,0 +1,71 @@
+package com.rd.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ScrollProgressTest {
+
+    private ScrollProgress scrollProgress;
+
+    @Before
+    public void setUp() {
+        scrollProgress = new ScrollProgress();
+    }
+
+    @Test
+    public void scrollToTheRight() {
+        scrollProgress.calculate(2, 2, 0.25f);
+
+        assertEquals(2, scrollProgress.getSelectedPosition());
+        assertEquals(3, scrollProgress.getSelectingPosition());
+        assertEquals(0.25f, scrollProgress.getProgress(), 0);
+    }
+
+    @Test
+    public void scrollToTheLeft() {
+        scrollProgress.calculate(2, 1, 0.75f);
+
+        assertEquals(2, scrollProgress.getSelectedPosition());
+        assertEquals(1, scrollProgress.getSelectingPosition());
+        assertEquals(0.25f, scrollProgress.getProgress(), 0);
+    }
+
+    @Test
+    public void idlePosition() {
+        scrollProgress.calculate(2, 2, 0);
+
+        assertEquals(2, scrollProgress.getSelectedPosition());
+        assertEquals(2, scrollProgress.getSelectingPosition());
+        assertEquals(1f, scrollProgress.getProgress(), 0);
+    }
+
+    @Test
+    public void rightOverScrollMovesSelection() {
+        //pager skipped selection of page 3 while flinging from page 2
+        scrollProgress.calculate(2, 4, 0.5f);
+
+        assertEquals(4, scrollProgress.getSelectedPosition());
+        assertEquals(5, scrollProgress.getSelectingPosition());
+        assertEquals(0.5f, scrollProgress.getProgress(), 0);
+    }
+
+    @Test
+    public void leftOverScrollMovesSelection() {
+        scrollProgress.calculate(5, 2, 0.5f);
+
+        assertEquals(2, scrollProgress.getSelectedPosition());
+        assertEquals(3, scrollProgress.getSelectingPosition());
+        assertEquals(0.5f, scrollProgress.getProgress(), 0);
+    }
+
+    @Test
+    public void progressIsClamped() {
+        scrollProgress.calculate(2, 1, -0.5f);
+        assertEquals(1f, scrollProgress.getProgress(), 0);
+
+        scrollProgress.calculate(2, 2, 1.5f);
+        assertEquals(1f, scrollProgress.getProgress(), 0);
+    }
+}
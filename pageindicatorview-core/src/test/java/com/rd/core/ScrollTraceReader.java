@@ -0,0 +1,162 @@
+package com.rd.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads events of {@link ScrollTrace} one by one. Current event is stored in fields,
+ * so reading doesn't allocate and the same trace could be read again after {@link #rewind()}.
+ * Test helper only, shared with replay harness of library tests.
+ */
+public class ScrollTraceReader {
+
+    private byte[] buffer;
+    private int size;
+    private int offset;
+
+    private int type;
+    private long timeNanos;
+    private int position;
+    private float positionOffset;
+    private int state;
+
+    /**
+     * @param trace bytes of trace, e.g. exported by {@link ScrollTraceWriter#writeTo(java.io.OutputStream)}.
+     * @throws IOException if data is not a trace of supported version.
+     */
+    public ScrollTraceReader(byte[] trace) throws IOException {
+        buffer = trace;
+        size = trace.length;
+
+        int headerSize = ScrollTrace.MAGIC.length + 1;
+        if (size < headerSize) {
+            throw new IOException("Scroll trace is too short");
+        }
+
+        for (int i = 0; i < ScrollTrace.MAGIC.length; i++) {
+            if (buffer[i] != ScrollTrace.MAGIC[i]) {
+                throw new IOException("Not a scroll trace");
+            }
+        }
+
+        if (buffer[ScrollTrace.MAGIC.length] != ScrollTrace.VERSION) {
+            throw new IOException("Unsupported scroll trace version " + buffer[ScrollTrace.MAGIC.length]);
+        }
+
+        rewind();
+    }
+
+    /**
+     * Read whole stream as trace. Stream is not closed.
+     */
+    public static ScrollTraceReader read(InputStream stream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+
+        int count;
+        while ((count = stream.read(chunk)) != -1) {
+            bytes.write(chunk, 0, count);
+        }
+
+        return new ScrollTraceReader(bytes.toByteArray());
+    }
+
+    /**
+     * Move to the first event of trace.
+     */
+    public void rewind() {
+        offset = ScrollTrace.MAGIC.length + 1;
+        timeNanos = 0;
+        type = 0;
+    }
+
+    /**
+     * Read next event.
+     *
+     * @return false if there are no more events.
+     * @throws IOException if trace is truncated or contains unknown event.
+     */
+    public boolean next() throws IOException {
+        if (offset >= size) {
+            return false;
+        }
+
+        type = buffer[offset++];
+        timeNanos += readVarLong() * 1000;
+
+        switch (type) {
+            case ScrollTrace.EVENT_PAGE_SCROLLED:
+                position = (int) readVarLong();
+                if (offset + 4 > size) {
+                    throw new IOException("Scroll trace is truncated");
+                }
+
+                int bits = (buffer[offset] & 0xFF) << 24
+                        | (buffer[offset + 1] & 0xFF) << 16
+                        | (buffer[offset + 2] & 0xFF) << 8
+                        | (buffer[offset + 3] & 0xFF);
+                offset += 4;
+                positionOffset = Float.intBitsToFloat(bits);
+                break;
+
+            case ScrollTrace.EVENT_PAGE_SELECTED:
+                position = (int) readVarLong();
+                break;
+
+            case ScrollTrace.EVENT_SCROLL_STATE_CHANGED:
+                state = (int) readVarLong();
+                break;
+
+            default:
+                throw new IOException("Unknown scroll trace event " + type);
+        }
+
+        return true;
+    }
+
+    /**
+     * Return type of current event, one of {@code ScrollTrace.EVENT_*} constants.
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Return time of current event in nanoseconds since the first event.
+     */
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public float getPositionOffset() {
+        return positionOffset;
+    }
+
+    public int getState() {
+        return state;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        int shift = 0;
+
+        while (true) {
+            if (offset >= size || shift > 63) {
+                throw new IOException("Scroll trace is truncated");
+            }
+
+            byte b = buffer[offset++];
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+}
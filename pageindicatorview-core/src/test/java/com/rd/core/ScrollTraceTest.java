@@ -0,0 +1,120 @@
+package com.rd.core;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ScrollTraceTest {
+
+    private static final long START_NANOS = 123456789000L;
+
+    @Test
+    public void writtenEventsAreReadBack() throws IOException {
+        ScrollTraceWriter writer = new ScrollTraceWriter(8);
+        writer.writeScrollStateChanged(START_NANOS, ScrollTrace.SCROLL_STATE_DRAGGING);
+        writer.writePageScrolled(START_NANOS + 16000000, 2, 0.25f);
+        writer.writePageScrolled(START_NANOS + 32000000, 300, 0.999f);
+        writer.writePageSelected(START_NANOS + 40000000, 3);
+        writer.writeScrollStateChanged(START_NANOS + 1000000000, ScrollTrace.SCROLL_STATE_IDLE);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.writeTo(bytes);
+        assertEquals(writer.getSize(), bytes.size());
+
+        ScrollTraceReader reader = ScrollTraceReader.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertTrue(reader.next());
+        assertEquals(ScrollTrace.EVENT_SCROLL_STATE_CHANGED, reader.getType());
+        assertEquals(0, reader.getTimeNanos());
+        assertEquals(ScrollTrace.SCROLL_STATE_DRAGGING, reader.getState());
+
+        assertTrue(reader.next());
+        assertEquals(ScrollTrace.EVENT_PAGE_SCROLLED, reader.getType());
+        assertEquals(16000000, reader.getTimeNanos());
+        assertEquals(2, reader.getPosition());
+        assertEquals(0.25f, reader.getPositionOffset(), 0);
+
+        assertTrue(reader.next());
+        assertEquals(32000000, reader.getTimeNanos());
+        assertEquals(300, reader.getPosition());
+        assertEquals(0.999f, reader.getPositionOffset(), 0);
+
+        assertTrue(reader.next());
+        assertEquals(ScrollTrace.EVENT_PAGE_SELECTED, reader.getType());
+        assertEquals(40000000, reader.getTimeNanos());
+        assertEquals(3, reader.getPosition());
+
+        assertTrue(reader.next());
+        assertEquals(ScrollTrace.EVENT_SCROLL_STATE_CHANGED, reader.getType());
+        assertEquals(1000000000, reader.getTimeNanos());
+        assertEquals(ScrollTrace.SCROLL_STATE_IDLE, reader.getState());
+
+        assertFalse(reader.next());
+    }
+
+    @Test
+    public void rewindReadsTraceAgain() throws IOException {
+        ScrollTraceWriter writer = new ScrollTraceWriter();
+        writer.writePageSelected(START_NANOS, 1);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.writeTo(bytes);
+        ScrollTraceReader reader = new ScrollTraceReader(bytes.toByteArray());
+
+        assertTrue(reader.next());
+        assertFalse(reader.next());
+
+        reader.rewind();
+        assertTrue(reader.next());
+        assertEquals(1, reader.getPosition());
+    }
+
+    @Test
+    public void fullTraceDropsFurtherEvents() throws IOException {
+        ScrollTraceWriter writer = new ScrollTraceWriter(8, 64);
+        for (int i = 0; i < 100; i++) {
+            writer.writePageScrolled(START_NANOS + i * 16000000L, i, 0.5f);
+        }
+
+        assertTrue(writer.isFull());
+        assertTrue(writer.getSize() <= 64);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.writeTo(bytes);
+        ScrollTraceReader reader = new ScrollTraceReader(bytes.toByteArray());
+
+        //trace holds uninterrupted events from its start
+        int events = 0;
+        while (reader.next()) {
+            assertEquals(events, reader.getPosition());
+            events++;
+        }
+        assertEquals(100, events + writer.getDroppedEvents());
+
+        writer.reset();
+        assertFalse(writer.isFull());
+        writer.writePageSelected(START_NANOS, 1);
+        assertEquals(0, writer.getDroppedEvents());
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedTraceIsRejected() throws IOException {
+        ScrollTraceWriter writer = new ScrollTraceWriter();
+        writer.writePageScrolled(START_NANOS, 2, 0.5f);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.writeTo(bytes);
+        byte[] trace = bytes.toByteArray();
+        byte[] truncated = new byte[trace.length - 2];
+        System.arraycopy(trace, 0, truncated, 0, truncated.length);
+
+        ScrollTraceReader reader = new ScrollTraceReader(truncated);
+        reader.next();
+    }
+}
@@ -0,0 +1,82 @@
+package com.rd.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SelectionStateTest {
+
+    private SelectionState selection;
+
+    @Before
+    public void setUp() {
+        selection = new SelectionState();
+        selection.setCount(5);
+        selection.reset(2);
+    }
+
+    @Test
+    public void scrollKeepsSelectionUntilPageIsReached() {
+        selection.onPageScrolled(2, 0.25f);
+
+        assertEquals(2, selection.getSelectedPosition());
+        assertEquals(3, selection.getSelectingPosition());
+        assertEquals(0.25f, selection.getProgress(), 0);
+        assertEquals(2.25f, selection.getScrollPosition(), 0);
+    }
+
+    @Test
+    public void reachedPageBecomesSelected() {
+        selection.onPageScrolled(1, 0.5f);
+        selection.onPageScrolled(1, 0);
+
+        assertEquals(1, selection.getSelectedPosition());
+        assertEquals(2, selection.getLastSelectedPosition());
+        assertEquals(1f, selection.getScrollPosition(), 0);
+    }
+
+    @Test
+    public void selectingPositionIsKeptWithinCount() {
+        selection.reset(4);
+        selection.onPageScrolled(4, 0.5f);
+
+        assertEquals(4, selection.getSelectingPosition());
+    }
+
+    @Test
+    public void selectMovesSelection() {
+        selection.select(4);
+
+        assertEquals(4, selection.getSelectedPosition());
+        assertEquals(4, selection.getSelectingPosition());
+        assertEquals(2, selection.getLastSelectedPosition());
+    }
+
+    @Test
+    public void setCopiesStateWithinOwnCount() {
+        SelectionState state = new SelectionState();
+        state.reset(3);
+        state.onPageScrolled(3, 0.5f);
+
+        selection.setCount(4);
+        selection.set(state);
+
+        assertEquals(3, selection.getSelectedPosition());
+        assertEquals(3, selection.getSelectingPosition());
+        assertEquals(0.5f, selection.getProgress(), 0);
+    }
+
+    @Test
+    public void setClampsSelectedPositionsByOwnCount() {
+        SelectionState state = new SelectionState();
+        state.reset(6);
+        state.select(7);
+
+        selection.set(state);
+
+        assertEquals(4, selection.getSelectedPosition());
+        assertEquals(4, selection.getLastSelectedPosition());
+        assertEquals(4, selection.getSelectingPosition());
+    }
+}
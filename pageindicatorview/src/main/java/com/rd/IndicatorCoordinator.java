@@ -0,0 +1,177 @@
+package com.rd;
+
+import android.support.annotation.NonNull;
+import android.support.v4.view.ViewCompat;
+import android.support.v4.view.ViewPager;
+import com.rd.animation.AnimationClock;
+import com.rd.core.SelectionState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drives several {@link PageIndicatorView} or {@link PageIndicatorDrawable} from single {@link ViewPager}, e.g. header and footer indicators
+ * of the same pager. Scroll state is calculated once per scroll event and broadcast to every attached
+ * indicator, while selection animations of all attached indicators are advanced by shared
+ * {@link AnimationClock#getInstance()}. Selection set on any of attached indicators is set on all of them.
+ * Should be used from main thread only.
+ */
+public class IndicatorCoordinator implements ViewPager.OnPageChangeListener {
+
+    private ViewPager viewPager;
+    private List<PageIndicatorDrawable> indicators = new ArrayList<>();
+
+    private SelectionState selection = new SelectionState();
+
+    //Latest scroll event, waiting for next animation frame to be handled
+    private boolean scrollCoalescing;
+    private int pendingScrollPosition;
+    private float pendingScrollOffset;
+    private boolean isScrollPending;
+    private Runnable scrollRunnable = new Runnable() {
+        @Override
+        public void run() {
+            isScrollPending = false;
+            onPageScroll(pendingScrollPosition, pendingScrollOffset);
+        }
+    };
+
+    public IndicatorCoordinator(@NonNull ViewPager pager) {
+        viewPager = pager;
+        selection.reset(pager.getCurrentItem());
+        viewPager.addOnPageChangeListener(this);
+    }
+
+    /**
+     * Attach indicator to receive scroll state of coordinated {@link ViewPager}. Indicator stops
+     * handling {@link ViewPager} set by {@link PageIndicatorView#setViewPager(ViewPager)} on its own.
+     *
+     * @param indicator indicator to attach.
+     */
+    public void attach(@NonNull PageIndicatorView indicator) {
+        indicator.releaseViewPager();
+        attach(indicator.getIndicatorDrawable());
+    }
+
+    /**
+     * Attach indicator drawable, e.g. one of {@link PageIndicatorDecoration}, to receive scroll state
+     * of coordinated {@link ViewPager}.
+     *
+     * @param indicator indicator to attach.
+     */
+    public void attach(@NonNull PageIndicatorDrawable indicator) {
+        if (indicators.contains(indicator)) {
+            return;
+        }
+
+        indicator.setAnimationClock(AnimationClock.getInstance());
+        indicator.setCoordinator(this);
+        indicators.add(indicator);
+    }
+
+    /**
+     * Detach indicator, so it stops receiving scroll state and uses own animators again.
+     *
+     * @param indicator indicator to detach.
+     */
+    public void detach(@NonNull PageIndicatorView indicator) {
+        detach(indicator.getIndicatorDrawable());
+    }
+
+    /**
+     * Detach indicator drawable, so it stops receiving scroll state and uses own animators again.
+     *
+     * @param indicator indicator to detach.
+     */
+    public void detach(@NonNull PageIndicatorDrawable indicator) {
+        if (indicators.remove(indicator)) {
+            indicator.setAnimationClock(null);
+            indicator.setCoordinator(null);
+        }
+    }
+
+    /**
+     * Detach all indicators and stop handling events of {@link ViewPager}.
+     */
+    public void release() {
+        cancelPendingScroll();
+        viewPager.removeOnPageChangeListener(this);
+
+        for (int i = indicators.size() - 1; i >= 0; i--) {
+            detach(indicators.get(i));
+        }
+    }
+
+    /**
+     * Set boolean value to handle only the latest of scroll events received between two frames,
+     * same as {@link PageIndicatorDrawable#setScrollCoalescing(boolean)} does for single indicator.
+     *
+     * @param isScrollCoalescing value of scroll events to be coalesced or not.
+     */
+    public void setScrollCoalescing(boolean isScrollCoalescing) {
+        scrollCoalescing = isScrollCoalescing;
+
+        if (!scrollCoalescing && isScrollPending) {
+            cancelPendingScroll();
+            onPageScroll(pendingScrollPosition, pendingScrollOffset);
+        }
+    }
+
+    /**
+     * Select given position in all attached indicators, each of them clamping it by own count,
+     * and continue following scroll from it.
+     *
+     * @param position position of indicator to select.
+     */
+    public void setSelection(int position) {
+        if (position < 0) {
+            position = 0;
+        }
+
+        selection.reset(position);
+        for (int i = 0; i < indicators.size(); i++) {
+            indicators.get(i).select(position);
+        }
+    }
+
+    @Override
+    public void onPageScrolled(int position, float positionOffset, int positionOffsetPixels) {
+        if (scrollCoalescing) {
+            pendingScrollPosition = position;
+            pendingScrollOffset = positionOffset;
+
+            if (!isScrollPending) {
+                isScrollPending = true;
+                ViewCompat.postOnAnimation(viewPager, scrollRunnable);
+            }
+
+        } else {
+            onPageScroll(position, positionOffset);
+        }
+    }
+
+    @Override
+    public void onPageSelected(int position) {
+        for (int i = 0; i < indicators.size(); i++) {
+            indicators.get(i).onSelected(position);
+        }
+    }
+
+    @Override
+    public void onPageScrollStateChanged(int state) {/*empty*/}
+
+    private void onPageScroll(int position, float positionOffset) {
+        selection.onPageScrolled(position, positionOffset);
+
+        for (int i = 0; i < indicators.size(); i++) {
+            indicators.get(i).onScrollProgress(selection);
+        }
+    }
+
+    private void cancelPendingScroll() {
+        if (isScrollPending) {
+            viewPager.removeCallbacks(scrollRunnable);
+            isScrollPending = false;
+        }
+    }
+}
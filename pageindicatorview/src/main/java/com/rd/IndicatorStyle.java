@@ -0,0 +1,471 @@
+package com.rd;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.graphics.Color;
+import android.support.annotation.NonNull;
+import android.support.annotation.StyleRes;
+import android.util.AttributeSet;
+import android.util.SparseArray;
+import com.rd.animation.AbsAnimation;
+import com.rd.animation.AnimationType;
+import com.rd.animation.ScaleAnimation;
+import com.rd.pageindicatorview.R;
+import com.rd.utils.DensityUtils;
+
+import java.util.WeakHashMap;
+
+/**
+ * Immutable set of {@link PageIndicatorView} and {@link PageIndicatorDrawable} attributes. Styles are resolved once per theme,
+ * configuration and style resource and shared between all indicators using them, so inflating many indicators with
+ * the same style doesn't parse the same attributes again, and indicators hold the same instance instead of copies of it.
+ */
+public final class IndicatorStyle {
+
+    //Resolved styles per theme and style resource, accessed from main thread only
+    private static final WeakHashMap<Resources.Theme, ThemeStyles> cache = new WeakHashMap<>();
+
+    private final int count;
+    private final int selectedPosition;
+    private final int paddingPx;
+    private final int radiusPx;
+    private final float scaleFactor;
+
+    private final int unselectedColor;
+    private final int selectedColor;
+
+    private final long animationDuration;
+    private final boolean interactiveAnimation;
+    private final boolean frameAnimation;
+    private final boolean staticLayer;
+    private final boolean spriteAtlas;
+    private final boolean scrollCoalescing;
+    private final int maxFrameRate;
+
+    private final int maxVisibleCount;
+    private final int reservedCount;
+    private final boolean shrinkEdges;
+
+    private final AnimationType animationType;
+
+    private IndicatorStyle(@NonNull Builder builder) {
+        count = builder.count;
+        selectedPosition = builder.selectedPosition;
+        paddingPx = builder.paddingPx;
+        radiusPx = builder.radiusPx;
+        scaleFactor = builder.scaleFactor;
+
+        unselectedColor = builder.unselectedColor;
+        selectedColor = builder.selectedColor;
+
+        animationDuration = builder.animationDuration;
+        interactiveAnimation = builder.interactiveAnimation;
+        frameAnimation = builder.frameAnimation;
+        staticLayer = builder.staticLayer;
+        spriteAtlas = builder.spriteAtlas;
+        scrollCoalescing = builder.scrollCoalescing;
+        maxFrameRate = builder.maxFrameRate;
+
+        maxVisibleCount = builder.maxVisibleCount;
+        reservedCount = builder.reservedCount;
+        shrinkEdges = builder.shrinkEdges;
+
+        animationType = builder.animationType;
+    }
+
+    /**
+     * Return style of indicator declared with given attributes. If attributes only reference style resource,
+     * without overriding any of indicator attributes in place, resolved style is cached and shared.
+     *
+     * @param context context to resolve attributes with.
+     * @param attrs   attributes of inflated indicator.
+     */
+    @NonNull
+    public static IndicatorStyle obtain(@NonNull Context context, @NonNull AttributeSet attrs) {
+        int styleRes = attrs.getStyleAttribute();
+        if (styleRes == 0 || hasInlineAttributes(attrs)) {
+            return resolve(context.obtainStyledAttributes(attrs, R.styleable.PageIndicatorView, 0, 0));
+        }
+
+        return obtain(context, styleRes);
+    }
+
+    /**
+     * Return style of indicator declared in given style resource. Resolved style is cached and
+     * shared within the same theme, until configuration of context resources is changed, e.g. its density or night mode.
+     *
+     * @param context  context to resolve attributes with.
+     * @param styleRes style resource with indicator attributes.
+     */
+    @NonNull
+    public static IndicatorStyle obtain(@NonNull Context context, @StyleRes int styleRes) {
+        Resources.Theme theme = context.getTheme();
+        Configuration configuration = context.getResources().getConfiguration();
+
+        ThemeStyles themeStyles = cache.get(theme);
+        if (themeStyles == null || themeStyles.configuration.diff(configuration) != 0) {
+            themeStyles = new ThemeStyles(configuration);
+            cache.put(theme, themeStyles);
+        }
+
+        IndicatorStyle style = themeStyles.styles.get(styleRes);
+        if (style == null) {
+            style = resolve(context.obtainStyledAttributes(styleRes, R.styleable.PageIndicatorView));
+            themeStyles.styles.put(styleRes, style);
+        }
+
+        return style;
+    }
+
+    /**
+     * Drop all cached styles, so they are resolved again on next {@link #obtain(Context, int)}.
+     * Configuration changes are tracked automatically, while theme changed in place,
+     * e.g. with {@link Resources.Theme#applyStyle(int, boolean)}, requires cache to be cleared.
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    private static IndicatorStyle resolve(@NonNull TypedArray typedArray) {
+        int count = typedArray.getInt(R.styleable.PageIndicatorView_count, PageIndicatorDrawable.DEFAULT_CIRCLES_COUNT);
+        int position = typedArray.getInt(R.styleable.PageIndicatorView_select, 0);
+
+        if (position < 0) {
+            position = 0;
+        } else if (count > 0 && position > count - 1) {
+            position = count - 1;
+        }
+
+        float factor = typedArray.getFloat(R.styleable.PageIndicatorView_scaleFactor, ScaleAnimation.DEFAULT_SCALE_FACTOR);
+        if (factor < ScaleAnimation.MIN_SCALE_FACTOR) {
+            factor = ScaleAnimation.MIN_SCALE_FACTOR;
+        } else if (factor > ScaleAnimation.MAX_SCALE_FACTOR) {
+            factor = ScaleAnimation.MAX_SCALE_FACTOR;
+        }
+
+        int frameRate = typedArray.getInt(R.styleable.PageIndicatorView_maxFrameRate, 0);
+        int visibleCount = typedArray.getInt(R.styleable.PageIndicatorView_maxVisibleCount, 0);
+        int reserved = typedArray.getInt(R.styleable.PageIndicatorView_reservedCount, 0);
+        int index = typedArray.getInt(R.styleable.PageIndicatorView_animationType, AnimationType.NONE.ordinal());
+
+        IndicatorStyle style = new Builder()
+                .setCount(count)
+                .setSelectedPosition(position)
+                .setPaddingPx((int) typedArray.getDimension(R.styleable.PageIndicatorView_padding, DensityUtils.dpToPx(PageIndicatorDrawable.DEFAULT_PADDING_DP)))
+                .setRadiusPx((int) typedArray.getDimension(R.styleable.PageIndicatorView_radius, DensityUtils.dpToPx(PageIndicatorDrawable.DEFAULT_RADIUS_DP)))
+                .setScaleFactor(factor)
+                .setUnselectedColor(typedArray.getColor(R.styleable.PageIndicatorView_unselectedColor, Color.parseColor(PageIndicatorDrawable.DEFAULT_UNSELECTED_COLOR)))
+                .setSelectedColor(typedArray.getColor(R.styleable.PageIndicatorView_selectedColor, Color.parseColor(PageIndicatorDrawable.DEFAULT_SELECTED_COLOR)))
+                .setAnimationDuration(typedArray.getInt(R.styleable.PageIndicatorView_animationDuration, AbsAnimation.DEFAULT_ANIMATION_TIME))
+                .setInteractiveAnimation(typedArray.getBoolean(R.styleable.PageIndicatorView_interactiveAnimation, false))
+                .setFrameAnimation(typedArray.getBoolean(R.styleable.PageIndicatorView_frameAnimation, false))
+                .setStaticLayer(typedArray.getBoolean(R.styleable.PageIndicatorView_staticLayer, false))
+                .setSpriteAtlas(typedArray.getBoolean(R.styleable.PageIndicatorView_spriteAtlas, false))
+                .setScrollCoalescing(typedArray.getBoolean(R.styleable.PageIndicatorView_scrollCoalescing, false))
+                .setMaxFrameRate(frameRate < 0 ? 0 : frameRate)
+                .setMaxVisibleCount(visibleCount < 0 ? 0 : visibleCount)
+                .setReservedCount(reserved < 0 ? 0 : reserved)
+                .setShrinkEdges(typedArray.getBoolean(R.styleable.PageIndicatorView_shrinkEdges, false))
+                .setAnimationType(getAnimationType(index))
+                .build();
+
+        typedArray.recycle();
+        return style;
+    }
+
+    private static boolean hasInlineAttributes(@NonNull AttributeSet attrs) {
+        for (int i = 0; i < attrs.getAttributeCount(); i++) {
+            int nameRes = attrs.getAttributeNameResource(i);
+            if (nameRes == 0) {
+                continue;
+            }
+
+            for (int attr : R.styleable.PageIndicatorView) {
+                if (attr == nameRes) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Enum values of animationType attribute match {@link AnimationType} ordinals.
+     */
+    private static AnimationType getAnimationType(int index) {
+        AnimationType[] types = AnimationType.values();
+        if (index < 0 || index >= types.length) {
+            return AnimationType.NONE;
+        }
+
+        return types[index];
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getSelectedPosition() {
+        return selectedPosition;
+    }
+
+    public int getPaddingPx() {
+        return paddingPx;
+    }
+
+    public int getRadiusPx() {
+        return radiusPx;
+    }
+
+    public float getScaleFactor() {
+        return scaleFactor;
+    }
+
+    public int getUnselectedColor() {
+        return unselectedColor;
+    }
+
+    public int getSelectedColor() {
+        return selectedColor;
+    }
+
+    public long getAnimationDuration() {
+        return animationDuration;
+    }
+
+    public boolean isInteractiveAnimation() {
+        return interactiveAnimation;
+    }
+
+    public boolean isFrameAnimation() {
+        return frameAnimation;
+    }
+
+    public boolean isStaticLayer() {
+        return staticLayer;
+    }
+
+    public boolean isSpriteAtlas() {
+        return spriteAtlas;
+    }
+
+    public boolean isScrollCoalescing() {
+        return scrollCoalescing;
+    }
+
+    public int getMaxFrameRate() {
+        return maxFrameRate;
+    }
+
+    public int getMaxVisibleCount() {
+        return maxVisibleCount;
+    }
+
+    public int getReservedCount() {
+        return reservedCount;
+    }
+
+    public boolean isShrinkEdges() {
+        return shrinkEdges;
+    }
+
+    @NonNull
+    public AnimationType getAnimationType() {
+        return animationType;
+    }
+
+    /**
+     * Builder of {@link IndicatorStyle}, starting either from default attributes or from attributes of another style.
+     * Styles are immutable, so indicator attributes changed in code produce a new style instead of changing shared one.
+     */
+    public static final class Builder {
+
+        private int count = PageIndicatorDrawable.DEFAULT_CIRCLES_COUNT;
+        private int selectedPosition;
+        private int paddingPx = DensityUtils.dpToPx(PageIndicatorDrawable.DEFAULT_PADDING_DP);
+        private int radiusPx = DensityUtils.dpToPx(PageIndicatorDrawable.DEFAULT_RADIUS_DP);
+        private float scaleFactor = ScaleAnimation.DEFAULT_SCALE_FACTOR;
+
+        private int unselectedColor = Color.parseColor(PageIndicatorDrawable.DEFAULT_UNSELECTED_COLOR);
+        private int selectedColor = Color.parseColor(PageIndicatorDrawable.DEFAULT_SELECTED_COLOR);
+
+        private long animationDuration = AbsAnimation.DEFAULT_ANIMATION_TIME;
+        private boolean interactiveAnimation;
+        private boolean frameAnimation;
+        private boolean staticLayer;
+        private boolean spriteAtlas;
+        private boolean scrollCoalescing;
+        private int maxFrameRate;
+
+        private int maxVisibleCount;
+        private int reservedCount;
+        private boolean shrinkEdges;
+
+        private AnimationType animationType = AnimationType.NONE;
+
+        public Builder() {/*empty*/}
+
+        public Builder(@NonNull IndicatorStyle style) {
+            from(style);
+        }
+
+        /**
+         * Take all attributes of given style, so the same builder could be reused to build its changed copy.
+         */
+        @NonNull
+        public Builder from(@NonNull IndicatorStyle style) {
+            count = style.count;
+            selectedPosition = style.selectedPosition;
+            paddingPx = style.paddingPx;
+            radiusPx = style.radiusPx;
+            scaleFactor = style.scaleFactor;
+
+            unselectedColor = style.unselectedColor;
+            selectedColor = style.selectedColor;
+
+            animationDuration = style.animationDuration;
+            interactiveAnimation = style.interactiveAnimation;
+            frameAnimation = style.frameAnimation;
+            staticLayer = style.staticLayer;
+            spriteAtlas = style.spriteAtlas;
+            scrollCoalescing = style.scrollCoalescing;
+            maxFrameRate = style.maxFrameRate;
+
+            maxVisibleCount = style.maxVisibleCount;
+            reservedCount = style.reservedCount;
+            shrinkEdges = style.shrinkEdges;
+
+            animationType = style.animationType;
+            return this;
+        }
+
+        @NonNull
+        public Builder setCount(int count) {
+            this.count = count;
+            return this;
+        }
+
+        @NonNull
+        public Builder setSelectedPosition(int selectedPosition) {
+            this.selectedPosition = selectedPosition;
+            return this;
+        }
+
+        @NonNull
+        public Builder setPaddingPx(int paddingPx) {
+            this.paddingPx = paddingPx;
+            return this;
+        }
+
+        @NonNull
+        public Builder setRadiusPx(int radiusPx) {
+            this.radiusPx = radiusPx;
+            return this;
+        }
+
+        @NonNull
+        public Builder setScaleFactor(float scaleFactor) {
+            this.scaleFactor = scaleFactor;
+            return this;
+        }
+
+        @NonNull
+        public Builder setUnselectedColor(int unselectedColor) {
+            this.unselectedColor = unselectedColor;
+            return this;
+        }
+
+        @NonNull
+        public Builder setSelectedColor(int selectedColor) {
+            this.selectedColor = selectedColor;
+            return this;
+        }
+
+        @NonNull
+        public Builder setAnimationDuration(long animationDuration) {
+            this.animationDuration = animationDuration;
+            return this;
+        }
+
+        @NonNull
+        public Builder setInteractiveAnimation(boolean interactiveAnimation) {
+            this.interactiveAnimation = interactiveAnimation;
+            return this;
+        }
+
+        @NonNull
+        public Builder setFrameAnimation(boolean frameAnimation) {
+            this.frameAnimation = frameAnimation;
+            return this;
+        }
+
+        @NonNull
+        public Builder setStaticLayer(boolean staticLayer) {
+            this.staticLayer = staticLayer;
+            return this;
+        }
+
+        @NonNull
+        public Builder setSpriteAtlas(boolean spriteAtlas) {
+            this.spriteAtlas = spriteAtlas;
+            return this;
+        }
+
+        @NonNull
+        public Builder setScrollCoalescing(boolean scrollCoalescing) {
+            this.scrollCoalescing = scrollCoalescing;
+            return this;
+        }
+
+        @NonNull
+        public Builder setMaxFrameRate(int maxFrameRate) {
+            this.maxFrameRate = maxFrameRate;
+            return this;
+        }
+
+        @NonNull
+        public Builder setMaxVisibleCount(int maxVisibleCount) {
+            this.maxVisibleCount = maxVisibleCount;
+            return this;
+        }
+
+        @NonNull
+        public Builder setReservedCount(int reservedCount) {
+            this.reservedCount = reservedCount;
+            return this;
+        }
+
+        @NonNull
+        public Builder setShrinkEdges(boolean shrinkEdges) {
+            this.shrinkEdges = shrinkEdges;
+            return this;
+        }
+
+        @NonNull
+        public Builder setAnimationType(@NonNull AnimationType animationType) {
+            this.animationType = animationType;
+            return this;
+        }
+
+        @NonNull
+        public IndicatorStyle build() {
+            return new IndicatorStyle(this);
+        }
+    }
+
+    /**
+     * Styles resolved within one theme under configuration they were resolved with.
+     */
+    private static class ThemeStyles {
+
+        private Configuration configuration;
+        private SparseArray<IndicatorStyle> styles = new SparseArray<>();
+
+        ThemeStyles(@NonNull Configuration configuration) {
+            this.configuration = new Configuration(configuration);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.rd;
+
+import android.graphics.Canvas;
+import android.graphics.drawable.Drawable;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.view.ViewCompat;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import com.rd.animation.MotionPolicy;
+import com.rd.scroll.RecyclerViewScrollSource;
+import com.rd.utils.DensityUtils;
+import com.rd.utils.DisplayUtils;
+
+/**
+ * {@link RecyclerView.ItemDecoration} drawing {@link PageIndicatorDrawable} over pages of {@link RecyclerView},
+ * centered horizontally at its bottom, so indicator doesn't need separate view in layout. Count of circles
+ * follows item count of {@link RecyclerView} adapter and selection follows its scroll through {@link RecyclerViewScrollSource}.
+ */
+public class PageIndicatorDecoration extends RecyclerView.ItemDecoration implements Drawable.Callback {
+
+    private static final int DEFAULT_BOTTOM_OFFSET_DP = 16;
+
+    private PageIndicatorDrawable drawable = new PageIndicatorDrawable();
+    private int bottomOffsetPx = DensityUtils.dpToPx(DEFAULT_BOTTOM_OFFSET_DP);
+
+    private RecyclerView recyclerView;
+    private RecyclerView.Adapter<?> adapter;
+    private RecyclerViewScrollSource scrollSource;
+
+    private RecyclerView.AdapterDataObserver dataObserver = new RecyclerView.AdapterDataObserver() {
+        @Override
+        public void onChanged() {
+            updateCount();
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            updateCount();
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            updateCount();
+        }
+    };
+
+    private View.OnLayoutChangeListener layoutListener = new View.OnLayoutChangeListener() {
+        @Override
+        public void onLayoutChange(View v, int left, int top, int right, int bottom,
+                                   int oldLeft, int oldTop, int oldRight, int oldBottom) {
+            updateBounds();
+        }
+    };
+
+    private PageIndicatorDrawable.Host host = new PageIndicatorDrawable.Host() {
+        @Override
+        public void invalidateIndicator(int left, int top, int right, int bottom) {
+            if (recyclerView != null) {
+                recyclerView.invalidate(left, top, right, bottom);
+            }
+        }
+
+        @Override
+        public void onIndicatorSizeChanged() {
+            updateBounds();
+        }
+
+        @Override
+        public float getRefreshRate() {
+            return recyclerView != null ? DisplayUtils.getRefreshRate(recyclerView) : 0;
+        }
+    };
+
+    public PageIndicatorDecoration() {
+        drawable.setCallback(this);
+        drawable.setHost(host);
+    }
+
+    /**
+     * Attach decoration to given {@link RecyclerView} to draw indicator over it and follow its scroll.
+     * Decoration is detached from previous {@link RecyclerView}, if there was any. Unless {@link MotionPolicy}
+     * is already set, indicator follows system animation settings and battery saver with
+     * {@link MotionPolicy#getInstance(android.content.Context)}, same as {@link PageIndicatorView} does.
+     *
+     * @param recyclerView instance of {@link RecyclerView} or null to detach decoration.
+     */
+    public void attachToRecyclerView(@Nullable RecyclerView recyclerView) {
+        if (this.recyclerView == recyclerView) {
+            return;
+        }
+
+        if (this.recyclerView != null) {
+            scrollSource.detach();
+            this.recyclerView.removeItemDecoration(this);
+            this.recyclerView.removeOnLayoutChangeListener(layoutListener);
+            setAdapter(null);
+            drawable.release();
+        }
+
+        this.recyclerView = recyclerView;
+        scrollSource = null;
+
+        if (recyclerView != null) {
+            if (drawable.getMotionPolicy() == null && !recyclerView.isInEditMode()) {
+                drawable.setMotionPolicy(MotionPolicy.getInstance(recyclerView.getContext()));
+            }
+
+            scrollSource = new RecyclerViewScrollSource(recyclerView);
+            scrollSource.attach(drawable);
+            recyclerView.addItemDecoration(this);
+            recyclerView.addOnLayoutChangeListener(layoutListener);
+            setAdapter(recyclerView.getAdapter());
+            updateCount();
+            updateBounds();
+        }
+    }
+
+    /**
+     * Return {@link PageIndicatorDrawable} drawn by this decoration, to configure its look and animation.
+     */
+    @NonNull
+    public PageIndicatorDrawable getIndicatorDrawable() {
+        return drawable;
+    }
+
+    /**
+     * Set offset in dp between bottom of {@link RecyclerView} and indicator. Default value is {@link #DEFAULT_BOTTOM_OFFSET_DP}.
+     *
+     * @param offsetDp offset from the bottom in dp.
+     */
+    public void setBottomOffset(int offsetDp) {
+        bottomOffsetPx = DensityUtils.dpToPx(offsetDp);
+        updateBounds();
+    }
+
+    @Override
+    public void onDrawOver(Canvas canvas, RecyclerView parent, RecyclerView.State state) {
+        //adapter could be replaced at any time, while RecyclerView has no listener for it
+        if (parent.getAdapter() != adapter) {
+            setAdapter(parent.getAdapter());
+            updateCount();
+        }
+
+        drawable.draw(canvas);
+    }
+
+    @Override
+    public void invalidateDrawable(@NonNull Drawable who) {
+        if (recyclerView != null) {
+            recyclerView.invalidate();
+        }
+    }
+
+    @Override
+    public void scheduleDrawable(@NonNull Drawable who, @NonNull Runnable what, long when) {
+        if (recyclerView == null) {
+            return;
+        }
+
+        long delay = when - SystemClock.uptimeMillis();
+        if (delay > 0) {
+            ViewCompat.postOnAnimationDelayed(recyclerView, what, delay);
+        } else {
+            ViewCompat.postOnAnimation(recyclerView, what);
+        }
+    }
+
+    @Override
+    public void unscheduleDrawable(@NonNull Drawable who, @NonNull Runnable what) {
+        if (recyclerView != null) {
+            recyclerView.removeCallbacks(what);
+        }
+    }
+
+    private void setAdapter(@Nullable RecyclerView.Adapter<?> adapter) {
+        if (this.adapter != null) {
+            this.adapter.unregisterAdapterDataObserver(dataObserver);
+        }
+
+        this.adapter = adapter;
+
+        if (adapter != null) {
+            adapter.registerAdapterDataObserver(dataObserver);
+        }
+    }
+
+    private void updateCount() {
+        int count = adapter != null ? adapter.getItemCount() : 0;
+        if (drawable.getCount() != count) {
+            drawable.setCount(count);
+        }
+    }
+
+    /**
+     * Center indicator horizontally at the bottom of {@link RecyclerView}, once its size or size of indicator is changed.
+     */
+    private void updateBounds() {
+        if (recyclerView == null) {
+            return;
+        }
+
+        int width = drawable.getIntrinsicWidth();
+        int height = drawable.getIntrinsicHeight();
+
+        int left = (recyclerView.getWidth() - width) / 2;
+        int bottom = recyclerView.getHeight() - bottomOffsetPx;
+        drawable.setBounds(left, bottom - height, left + width, bottom);
+
+        recyclerView.invalidate();
+    }
+}
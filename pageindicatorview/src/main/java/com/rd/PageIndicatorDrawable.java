@@ -0,0 +1,1737 @@
+package com.rd;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.view.ViewPager;
+import com.rd.utils.DensityUtils;
+import com.rd.animation.AbsAnimation;
+import com.rd.animation.AnimationClock;
+import com.rd.animation.AnimationType;
+import com.rd.animation.MotionPolicy;
+import com.rd.core.IndicatorLayout;
+import com.rd.draw.ColorIndicatorAnimator;
+import com.rd.draw.DotAtlas;
+import com.rd.draw.IndicatorAnimator;
+import com.rd.draw.ScaleIndicatorAnimator;
+import com.rd.draw.SlideIndicatorAnimator;
+import com.rd.draw.WormIndicatorAnimator;
+import com.rd.core.InvalidationTracker;
+import com.rd.core.SelectionState;
+import com.rd.metrics.AdaptiveQuality;
+import com.rd.metrics.IndicatorMetrics;
+import com.rd.metrics.QualityTier;
+import com.rd.scroll.ScrollSource;
+
+/**
+ * Circle indicators with all of their drawing and animation state, so the same indicator could be
+ * drawn by {@link PageIndicatorView}, {@link PageIndicatorDecoration} or any other host.
+ * Circles are laid out within drawable bounds, while intrinsic size is the size indicator needs.
+ * Partial invalidation of animation frames and layout requests go through {@link Host}, if it's set,
+ * otherwise drawable is invalidated as a whole through its {@link Callback}.
+ */
+public class PageIndicatorDrawable extends Drawable implements ScrollSource.Listener {
+
+    static final String DEFAULT_UNSELECTED_COLOR = "#33ffffff";
+    static final String DEFAULT_SELECTED_COLOR = "#ffffff";
+
+    static final int DEFAULT_CIRCLES_COUNT = 3;
+    static final int DEFAULT_RADIUS_DP = 6;
+    static final int DEFAULT_PADDING_DP = 8;
+
+    //Configuration changes, which could be batched by Editor
+    private static final int CHANGE_STYLE = 1;
+    private static final int CHANGE_LAYOUT = 1 << 1;
+
+    //Extra pixels invalidated around animated circles to cover anti-aliased edges
+    private static final int DIRTY_MARGIN_PX = 1;
+
+    //Tolerance of frame rate cap to display frame time jitter
+    private static final long FRAME_TIME_SLOP = 2;
+
+    //Half of typical 60 Hz display frame rate, used by QualityTier.HALF_FRAME_RATE if host display refresh rate is unknown
+    private static final int HALF_FRAME_RATE = 30;
+
+    //Attributes including count, possibly shared with other indicators, so never changed in place
+    private IndicatorStyle style = new IndicatorStyle.Builder().build();
+
+    //Intrinsic size
+    private int desiredWidth;
+    private int desiredHeight;
+
+    private SelectionState selection = new SelectionState();
+
+    //Horizontal bounds of last invalidated animation frame
+    private int frameDirtyLeft = Integer.MAX_VALUE;
+    private int frameDirtyRight = Integer.MIN_VALUE;
+    private boolean isFullyInvalidated;
+
+    //Animated positions of last invalidated animation frame
+    private InvalidationTracker invalidationTracker = new InvalidationTracker();
+
+    //Latest scroll event, waiting for next animation frame to be handled
+    private int pendingScrollPosition;
+    private float pendingScrollOffset;
+    private boolean isScrollPending;
+    private Runnable scrollRunnable = new Runnable() {
+        @Override
+        public void run() {
+            isScrollPending = false;
+            onPageScroll(pendingScrollPosition, pendingScrollOffset);
+        }
+    };
+
+
+    private Paint paint = new Paint();
+    private Paint layerPaint = new Paint();
+    private Rect clipRect = new Rect();
+    private int alpha = 255;
+
+    //Static layer of unselected circles
+    private Bitmap layerBitmap;
+    private boolean isLayerValid;
+    private Rect layerRect = new Rect();
+
+    //Pre-rasterized circles
+    private DotAtlas atlas;
+
+    private IndicatorLayout layout = new IndicatorLayout();
+
+    //Batched configuration
+    private Editor editor;
+
+    //Metrics
+    private IndicatorMetrics metrics;
+    private long pendingInputNanos;
+
+    private IndicatorAnimator animator;
+    //Type of built-in animator in use, or null if custom animator is set
+    private AnimationType animatorType = AnimationType.NONE;
+    private AnimationClock animationClock;
+
+    //Animated positions and radius of circles without effect, resolved once per drawn frame
+    private int drawnAnimatedPosition;
+    private int drawnAnimatedReversePosition;
+    private int drawnTrailingPosition = -1;
+    //Animated positions in ascending order, which static layer is not blitted under
+    private int[] layerPositions = new int[3];
+    private int unselectedRadiusPx;
+
+    //Motion
+    private MotionPolicy motionPolicy;
+    private boolean isMotionReduced;
+    private long lastFrameTime;
+    private boolean isFramePending;
+    private Runnable frameRunnable = new Runnable() {
+        @Override
+        public void run() {
+            isFramePending = false;
+            lastFrameTime = SystemClock.uptimeMillis();
+            invalidateFrame();
+        }
+    };
+
+    //Adaptive quality
+    private AdaptiveQuality adaptiveQuality;
+    private QualityTier qualityTier = QualityTier.FULL;
+    //Half of host display refresh rate, read once QualityTier.HALF_FRAME_RATE is applied
+    private int halfFrameRate = HALF_FRAME_RATE;
+    private long pendingUpdateNanos;
+    //Interactive progress is measured as a whole, including animation updates it causes
+    private boolean isProgressMeasured;
+    //Tier change decided while drawing, applied on next frame so draw() never swaps animator or layer
+    private boolean isQualityPending;
+    private Runnable qualityRunnable = new Runnable() {
+        @Override
+        public void run() {
+            isQualityPending = false;
+            if (adaptiveQuality != null) {
+                applyQualityTier(adaptiveQuality.getTier());
+            }
+        }
+    };
+
+    private Host host;
+    private IndicatorCoordinator coordinator;
+
+    private IndicatorAnimator.Indicator animatorIndicator = new IndicatorAnimator.Indicator() {
+        @Override
+        public int getSelectedPosition() {
+            return selection.getSelectedPosition();
+        }
+
+        @Override
+        public int getSelectingPosition() {
+            return selection.getSelectingPosition();
+        }
+
+        @Override
+        public int getLastSelectedPosition() {
+            return selection.getLastSelectedPosition();
+        }
+
+        @Override
+        public int getXCoordinate(int position) {
+            return layout.getXCoordinate(position);
+        }
+
+        @Override
+        public int getRadiusPx() {
+            return style.getRadiusPx();
+        }
+
+        @Override
+        public float getScaleFactor() {
+            return style.getScaleFactor();
+        }
+
+        @Override
+        public int getUnselectedColor() {
+            return style.getUnselectedColor();
+        }
+
+        @Override
+        public int getSelectedColor() {
+            return style.getSelectedColor();
+        }
+
+        @Override
+        public long getAnimationDuration() {
+            //platform animators apply system duration scale by themselves
+            if (animationClock != null && motionPolicy != null) {
+                return (long) (style.getAnimationDuration() * motionPolicy.getDurationScale());
+            }
+
+            return style.getAnimationDuration();
+        }
+
+        @Override
+        public boolean isFrameAnimation() {
+            return style.isFrameAnimation();
+        }
+
+        @NonNull
+        @Override
+        public Paint getPaint() {
+            return paint;
+        }
+
+        @Override
+        public void drawDot(@NonNull Canvas canvas, int x, int y, int radius) {
+            PageIndicatorDrawable.this.drawDot(canvas, x, y, radius);
+        }
+
+        @Override
+        public void onAnimationUpdated(boolean isFrameChanged) {
+            PageIndicatorDrawable.this.onAnimationUpdated(isFrameChanged);
+        }
+    };
+
+    /**
+     * Owner of drawable, which is able to invalidate part of it and to lay it out again.
+     */
+    public interface Host {
+
+        /**
+         * Invalidate given area of drawable, in coordinates of the host.
+         */
+        void invalidateIndicator(int left, int top, int right, int bottom);
+
+        /**
+         * Called when intrinsic size of drawable was changed, so host could request new layout if its size depends on it.
+         */
+        void onIndicatorSizeChanged();
+
+        /**
+         * Return refresh rate in frames per second of display host is shown on, or 0 if it's unknown.
+         */
+        float getRefreshRate();
+    }
+
+    public PageIndicatorDrawable() {
+        selection.setCount(style.getCount());
+        initCoordinates();
+        updateDesiredSize();
+        updateWindow(selection.getSelectedPosition());
+        initFrameValues();
+
+        paint.setStyle(Paint.Style.FILL);
+        paint.setAntiAlias(true);
+    }
+
+    /**
+     * Set {@link Host} to invalidate animation frames partially and to request layout once intrinsic size is changed.
+     *
+     * @param host owner of drawable or null.
+     */
+    public void setHost(@Nullable Host host) {
+        this.host = host;
+    }
+
+    @Override
+    public int getIntrinsicWidth() {
+        return desiredWidth;
+    }
+
+    @Override
+    public int getIntrinsicHeight() {
+        return desiredHeight;
+    }
+
+    @Override
+    protected void onBoundsChange(Rect bounds) {
+        initCoordinates();
+        updateWindow(selection.getSelectedPosition());
+        initFrameValues();
+        invalidateLayer();
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas) {
+        isFullyInvalidated = false;
+
+        Rect bounds = getBounds();
+        int saveCount;
+        if (alpha < 255) {
+            saveCount = canvas.saveLayerAlpha(bounds.left, bounds.top, bounds.right, bounds.bottom, alpha, Canvas.ALL_SAVE_FLAG);
+        } else {
+            saveCount = canvas.save();
+        }
+        canvas.translate(bounds.left, bounds.top);
+
+        if (metrics == null && adaptiveQuality == null) {
+            drawIndicatorView(canvas);
+            canvas.restoreToCount(saveCount);
+            return;
+        }
+
+        long startNanos = nanoTime();
+        drawIndicatorView(canvas);
+        long endNanos = nanoTime();
+        canvas.restoreToCount(saveCount);
+
+        if (metrics != null) {
+            metrics.onFrameDrawn(endNanos - startNanos);
+            if (pendingInputNanos != 0) {
+                metrics.onInputDrawn(endNanos - pendingInputNanos);
+                pendingInputNanos = 0;
+            }
+        }
+
+        if (adaptiveQuality != null) {
+            long costNanos = endNanos - startNanos + pendingUpdateNanos;
+            pendingUpdateNanos = 0;
+
+            if (adaptiveQuality.onFrame(costNanos) && !isQualityPending) {
+                isQualityPending = true;
+                scheduleSelf(qualityRunnable, SystemClock.uptimeMillis());
+            }
+        }
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        this.alpha = alpha;
+        invalidateSelf();
+    }
+
+    @Override
+    public int getAlpha() {
+        return alpha;
+    }
+
+    @Override
+    public void setColorFilter(@Nullable ColorFilter colorFilter) {
+        paint.setColorFilter(colorFilter);
+        layerPaint.setColorFilter(colorFilter);
+        invalidateSelf();
+    }
+
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+
+    /**
+     * Release static layer, sprite atlas, postponed animation frame and quality tier change.
+     * Pending scroll event is applied right away, so drawable shows the latest scroll position.
+     * Drawable stays usable and allocates them again once needed.
+     */
+    public void release() {
+        releaseLayer();
+        releaseAtlas();
+        flushPendingScroll();
+        cancelPendingFrame();
+        cancelPendingQuality();
+    }
+
+    @Override
+    public void onPageScrolled(int position, float positionOffset) {
+        if (metrics != null && pendingInputNanos == 0) {
+            pendingInputNanos = nanoTime();
+        }
+
+        if (!isInteractive()) {
+            return;
+        }
+
+        //without callback scroll event could never be handled later
+        if (style.isScrollCoalescing() && getCallback() != null) {
+            pendingScrollPosition = position;
+            pendingScrollOffset = positionOffset;
+
+            if (!isScrollPending) {
+                isScrollPending = true;
+                scheduleSelf(scrollRunnable, SystemClock.uptimeMillis());
+            }
+
+        } else {
+            onPageScroll(position, positionOffset);
+        }
+    }
+
+    @Override
+    public void onPageSelected(int position) {
+        if (coordinator != null) {
+            coordinator.onPageSelected(position);
+        } else {
+            onSelected(position);
+        }
+    }
+
+    /**
+     * Set number of circle indicators to be displayed.
+     *
+     * @param count total count of indicators.
+     */
+    public void setCount(int count) {
+        style = new IndicatorStyle.Builder(style).setCount(count).build();
+        selection.setCount(count);
+        onConfigChanged(CHANGE_LAYOUT);
+    }
+
+    /**
+     * Return number of circle indicators
+     */
+    public int getCount() {
+        return style.getCount();
+    }
+
+    /**
+     * Set radius in dp of each circle indicator. Default value is {@link #DEFAULT_RADIUS_DP}.
+     * Note: make sure you set circle Radius, not a Diameter.
+     *
+     * @param radiusDp radius of circle in dp.
+     */
+    public void setRadius(int radiusDp) {
+        if (radiusDp < 0) {
+            radiusDp = 0;
+        }
+
+        style = new IndicatorStyle.Builder(style).setRadiusPx(DensityUtils.dpToPx(radiusDp)).build();
+        onConfigChanged(CHANGE_LAYOUT);
+    }
+
+    /**
+     * Return radius of each circle indicators in dp. If custom radius is not set, return
+     * default value {@link #DEFAULT_RADIUS_DP}.
+     */
+    public int getRadius() {
+        return DensityUtils.dpToPx(style.getRadiusPx());
+    }
+
+    /**
+     * Set padding in dp between each circle indicator. Default value is {@link #DEFAULT_PADDING_DP}.
+     *
+     * @param paddingDp padding between circles.
+     */
+    public void setPadding(int paddingDp) {
+        style = new IndicatorStyle.Builder(style).setPaddingPx(DensityUtils.dpToPx(paddingDp)).build();
+        onConfigChanged(CHANGE_LAYOUT);
+    }
+
+    /**
+     * Return padding in dp between each circle indicator. If custom padding is not set,
+     * return default value {@link #DEFAULT_PADDING_DP}.
+     */
+    public int getPadding() {
+        return DensityUtils.dpToPx(style.getPaddingPx());
+    }
+
+    /**
+     * Set color of unselected state to each circle indicator. Default color {@link #DEFAULT_UNSELECTED_COLOR}.
+     *
+     * @param color color of each unselected circle.
+     */
+    public void setUnselectedColor(int color) {
+        style = new IndicatorStyle.Builder(style).setUnselectedColor(color).build();
+        onConfigChanged(CHANGE_STYLE);
+    }
+
+    /**
+     * Return color of unselected state of each circle indicator. If custom unselected color
+     * is not set, return default color {@link #DEFAULT_UNSELECTED_COLOR}.
+     */
+    public int getUnselectedColor() {
+        return style.getUnselectedColor();
+    }
+
+    /**
+     * Set color of selected state to circle indicator. Default color is white {@link #DEFAULT_SELECTED_COLOR}.
+     *
+     * @param color color selected circle.
+     */
+    public void setSelectedColor(int color) {
+        style = new IndicatorStyle.Builder(style).setSelectedColor(color).build();
+        onConfigChanged(CHANGE_STYLE);
+    }
+
+    /**
+     * Return color of selected circle indicator. If custom unselected color.
+     * is not set, return default color {@link #DEFAULT_SELECTED_COLOR}.
+     */
+    public int getSelectedColor() {
+        return style.getSelectedColor();
+    }
+
+    /**
+     * Set animation duration time in millisecond. Default animation duration time is {@link AbsAnimation#DEFAULT_ANIMATION_TIME}.
+     * (Won't affect on anything unless {@link #setAnimationType(AnimationType type)} is specified
+     * and {@link #setInteractiveAnimation(boolean isInteractive)} is false).
+     *
+     * @param duration animation duration time.
+     */
+    public void setAnimationDuration(long duration) {
+        style = new IndicatorStyle.Builder(style).setAnimationDuration(duration).build();
+    }
+
+    /**
+     * Return animation duration time in milliseconds. If custom duration is not set,
+     * return default duration time {@link AbsAnimation#DEFAULT_ANIMATION_TIME}.
+     */
+    public long getAnimationDuration() {
+        return style.getAnimationDuration();
+    }
+
+    /**
+     * Set animation type to perform while selecting new circle indicator.
+     * Default animation type is {@link AnimationType#NONE}.
+     *
+     * @param type type of animation, one of {@link AnimationType}
+     */
+    public void setAnimationType(@Nullable AnimationType type) {
+        if (type == null) {
+            type = AnimationType.NONE;
+        }
+
+        if (type != style.getAnimationType()) {
+            style = new IndicatorStyle.Builder(style).setAnimationType(type).build();
+            setBuiltInAnimator(getQualityAnimationType());
+
+            invalidateLayer();
+            invalidateSelf();
+        }
+    }
+
+    /**
+     * Set custom {@link IndicatorAnimator} to perform while selecting new circle indicator, instead of
+     * one of {@link AnimationType}. Animator is attached to this indicator and draws its animated circles.
+     *
+     * @param animator instance of {@link IndicatorAnimator} or null to select circles without animation.
+     */
+    public void setIndicatorAnimator(@Nullable IndicatorAnimator animator) {
+        attachAnimator(animator);
+        animatorType = null;
+
+        invalidateLayer();
+        invalidateSelf();
+    }
+
+    /**
+     * Set boolean value to perform interactive animation while selecting new indicator.
+     *
+     * @param isInteractive value of animation to be interactive or not.
+     */
+    public void setInteractiveAnimation(boolean isInteractive) {
+        style = new IndicatorStyle.Builder(style).setInteractiveAnimation(isInteractive).build();
+    }
+
+    /**
+     * Set boolean value to compute animation frames with single {@link com.rd.animation.FrameAnimation}
+     * instead of separate platform animators per animation type. Visual result is the same,
+     * but frame values are calculated without property lookups and boxing.
+     *
+     * @param isFrameAnimation value of animation to be calculated by frame engine or not.
+     */
+    public void setFrameAnimation(boolean isFrameAnimation) {
+        style = new IndicatorStyle.Builder(style).setFrameAnimation(isFrameAnimation).build();
+    }
+
+    /**
+     * Set boolean value to draw unselected circles from cached bitmap layer, so on each frame
+     * only selected and animated circles are drawn on top of it. Layer is rebuilt only when
+     * count, radius, padding, unselected color, animation type or bounds size is changed.
+     *
+     * @param isStaticLayer value of unselected circles to be cached in static layer or not.
+     */
+    public void setStaticLayer(boolean isStaticLayer) {
+        style = new IndicatorStyle.Builder(style).setStaticLayer(isStaticLayer).build();
+
+        if (!isStaticLayer) {
+            releaseLayer();
+        }
+
+        invalidateSelf();
+    }
+
+    /**
+     * Set boolean value to draw circles as bitmap blits from sprite atlas, pre-rasterized once
+     * at each integer radius from scaled down to full radius. Atlas is rebuilt only when
+     * radius, scale factor or anti-aliasing of quality tier is changed, and serves any color.
+     *
+     * @param isSpriteAtlas value of circles to be drawn from sprite atlas or not.
+     */
+    public void setSpriteAtlas(boolean isSpriteAtlas) {
+        style = new IndicatorStyle.Builder(style).setSpriteAtlas(isSpriteAtlas).build();
+
+        if (!isSpriteAtlas) {
+            releaseAtlas();
+        }
+
+        invalidateSelf();
+    }
+
+    /**
+     * Set max number of circle indicators to be displayed at once. If total count is bigger,
+     * only window of circles around selected one is drawn and measured, and it's scrolled
+     * along with selection. Set 0 to display all circles, which is default value.
+     *
+     * @param maxVisibleCount max number of visible circles or 0 to display all of them.
+     */
+    public void setMaxVisibleCount(int maxVisibleCount) {
+        if (maxVisibleCount < 0) {
+            maxVisibleCount = 0;
+        }
+
+        style = new IndicatorStyle.Builder(style).setMaxVisibleCount(maxVisibleCount).build();
+        onConfigChanged(CHANGE_LAYOUT);
+    }
+
+    /**
+     * Return max number of circle indicators to be displayed at once or 0 if all circles are displayed.
+     */
+    public int getMaxVisibleCount() {
+        return style.getMaxVisibleCount();
+    }
+
+    /**
+     * Set number of circle indicators to reserve size for. Indicator is measured to fit at least
+     * that many circles (but not more than max visible count), so changing count within reserved
+     * number never requires new layout pass. Set 0 to measure actual count only, which is default value.
+     *
+     * @param reservedCount number of circle indicators to reserve size for.
+     */
+    public void setReservedCount(int reservedCount) {
+        if (reservedCount < 0) {
+            reservedCount = 0;
+        }
+
+        style = new IndicatorStyle.Builder(style).setReservedCount(reservedCount).build();
+        onConfigChanged(CHANGE_LAYOUT);
+    }
+
+    /**
+     * Return number of circle indicators size is reserved for.
+     */
+    public int getReservedCount() {
+        return style.getReservedCount();
+    }
+
+    /**
+     * Set boolean value to shrink circles at the edges of visible window, to indicate there are
+     * more circles out of it. (Won't affect on anything unless {@link #setMaxVisibleCount(int)} is
+     * specified and total count is bigger).
+     *
+     * @param isShrinkEdges value of edge circles to be shrunk or not.
+     */
+    public void setShrinkEdges(boolean isShrinkEdges) {
+        style = new IndicatorStyle.Builder(style).setShrinkEdges(isShrinkEdges).build();
+        invalidateSelf();
+    }
+
+    /**
+     * Set {@link IndicatorMetrics} to collect draw durations, animation updates, scroll event
+     * to frame latency and animator restarts into. Metrics are not collected by default.
+     * Same instance could be shared between several indicators.
+     *
+     * @param metrics instance of {@link IndicatorMetrics} or null to stop collecting metrics.
+     */
+    public void setMetrics(@Nullable IndicatorMetrics metrics) {
+        this.metrics = metrics;
+        pendingInputNanos = 0;
+    }
+
+    /**
+     * Return {@link IndicatorMetrics} metrics are collected into, or null if metrics are disabled.
+     */
+    @Nullable
+    public IndicatorMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Set boolean value to handle only the latest of scroll events received between two frames.
+     * Scroll state is then evaluated and invalidated once per display frame, no matter how often
+     * {@link ViewPager} reports scroll. (Won't affect on anything unless
+     * {@link #setInteractiveAnimation(boolean isInteractive)} is true).
+     *
+     * @param isScrollCoalescing value of scroll events to be coalesced or not.
+     */
+    public void setScrollCoalescing(boolean isScrollCoalescing) {
+        style = new IndicatorStyle.Builder(style).setScrollCoalescing(isScrollCoalescing).build();
+
+        if (!isScrollCoalescing) {
+            flushPendingScroll();
+        }
+    }
+
+    /**
+     * Set {@link MotionPolicy} to decide whether selection changes are animated or instant, e.g. when
+     * animations are removed by system settings or battery saver is on. Without policy selection is always animated.
+     * Interactive animation follows scroll regardless of policy.
+     * Same instance could be shared between several indicators.
+     *
+     * @param policy instance of {@link MotionPolicy} or null to always animate.
+     */
+    public void setMotionPolicy(@Nullable MotionPolicy policy) {
+        motionPolicy = policy;
+        updateMotion();
+    }
+
+    /**
+     * Return {@link MotionPolicy} selection changes follow, or null if they are always animated.
+     */
+    @Nullable
+    public MotionPolicy getMotionPolicy() {
+        return motionPolicy;
+    }
+
+    /**
+     * Set max number of animation frames per second indicator invalidates, e.g. 30 on low-end devices.
+     * Frame values are still evaluated on each display frame, while frames coming sooner than allowed
+     * are postponed and only the latest of them is drawn. Default value is 0, which doesn't limit frame rate.
+     *
+     * @param fps max frame rate or 0 to draw every animation frame.
+     */
+    public void setMaxFrameRate(int fps) {
+        style = new IndicatorStyle.Builder(style).setMaxFrameRate(fps < 0 ? 0 : fps).build();
+
+        if (getFrameRate() == 0 && isFramePending) {
+            cancelPendingFrame();
+            invalidateFrame();
+        }
+    }
+
+    /**
+     * Return max number of animation frames per second or 0 if frame rate is not limited.
+     */
+    public int getMaxFrameRate() {
+        return style.getMaxFrameRate();
+    }
+
+    /**
+     * Set {@link AdaptiveQuality} to step indicator down through {@link QualityTier} once its draw, scroll
+     * and animation update cost repeatedly overruns frame budget, and back up once there is headroom again.
+     * Configured attributes are kept, while tiers only override them. Tier change decided while drawing
+     * is applied on next frame. Work is timed with clock of given quality. Quality is not adapted by default.
+     *
+     * @param quality instance of {@link AdaptiveQuality}, tracking this indicator only, or null to keep full quality.
+     */
+    public void setAdaptiveQuality(@Nullable AdaptiveQuality quality) {
+        adaptiveQuality = quality;
+        pendingUpdateNanos = 0;
+        pendingInputNanos = 0;
+        cancelPendingQuality();
+        applyQualityTier(quality != null ? quality.getTier() : QualityTier.FULL);
+    }
+
+    /**
+     * Return {@link AdaptiveQuality} adapting this indicator, or null if quality is not adapted.
+     */
+    @Nullable
+    public AdaptiveQuality getAdaptiveQuality() {
+        return adaptiveQuality;
+    }
+
+    /**
+     * Set {@link AnimationClock} to drive selection animations of this indicator, so single frame callback
+     * advances animations of all indicators sharing the same clock. Set null to let indicator use own animators.
+     * Indicators attached to {@link IndicatorCoordinator} use {@link AnimationClock#getInstance()}.
+     *
+     * @param clock instance of {@link AnimationClock} or null.
+     */
+    public void setAnimationClock(@Nullable AnimationClock clock) {
+        animationClock = clock;
+
+        if (animator != null) {
+            animator.setClock(clock);
+        }
+    }
+
+    /**
+     * Return {@link AnimationClock} driving animations of this indicator, or null if indicator uses own animators.
+     */
+    @Nullable
+    public AnimationClock getAnimationClock() {
+        return animationClock;
+    }
+
+    /**
+     * Set progress value in range [0 - 1] to specify state of animation while selecting new circle indicator.
+     * (Won't affect on anything unless {@link #setInteractiveAnimation(boolean isInteractive)} is false).
+     *
+     * @param selectingPosition selecting position with specific progress value.
+     * @param progress          float value of progress.
+     */
+    public void setProgress(int selectingPosition, float progress) {
+        if (isInteractive()) {
+            selection.setProgress(selectingPosition, progress);
+            onSelectionProgress();
+        }
+    }
+
+    /**
+     * Set specific circle indicator position to be selected. If position < or > total count,
+     * accordingly first or last circle indicator will be selected.
+     *
+     * If indicator is attached to {@link IndicatorCoordinator}, position is selected in all of its indicators.
+     *
+     * @param position position of indicator to select.
+     */
+    public void setSelection(int position) {
+        if (coordinator != null) {
+            coordinator.setSelection(position);
+        } else {
+            select(position);
+        }
+    }
+
+    /**
+     * Select given position in this indicator only, clamped by its count.
+     */
+    void select(int position) {
+        if (position < 0) {
+            position = 0;
+
+        } else if (position > style.getCount() - 1) {
+            position = style.getCount() - 1;
+        }
+
+        updateMotion();
+        if (position == selection.getSelectedPosition()) {
+            return;
+        }
+
+        //in-flight animation is retargeted from its current frame values instead of being restarted
+        boolean isRetarget = animator != null && animator.isRunning();
+        boolean isReversed = isRetarget && position == selection.getLastSelectedPosition();
+
+        selection.select(position);
+        updateWindow(position);
+
+        if (animator == null || isMotionReduced) {
+            initFrameValues();
+            invalidateSelf();
+            return;
+        }
+
+        if (metrics != null) {
+            metrics.onAnimatorStarted(isRetarget);
+        }
+
+        animator.start(isRetarget, isReversed);
+    }
+
+    /**
+     * Apply all attributes of given {@link IndicatorStyle} at once, including selected position.
+     * Same style instance could be shared between any number of indicators,
+     * see {@link IndicatorStyle#obtain(android.content.Context, int)}.
+     *
+     * @param style style to apply.
+     */
+    public void setStyle(@NonNull IndicatorStyle style) {
+        if (this.style.isScrollCoalescing() && !style.isScrollCoalescing()) {
+            cancelPendingScroll();
+        }
+
+        applyStyle(style);
+        onConfigChanged(CHANGE_LAYOUT | CHANGE_STYLE);
+    }
+
+    /**
+     * Return current attributes of indicator, including count and selected position. Returned instance is the one
+     * applied by {@link #setStyle(IndicatorStyle)} until any of attributes is changed separately or another
+     * circle is selected, which replaces it with changed copy.
+     */
+    @NonNull
+    public IndicatorStyle getStyle() {
+        //selection changes too often to copy style on each of them, so it's written back only once style is requested
+        if (style.getSelectedPosition() != selection.getSelectedPosition()) {
+            style = new IndicatorStyle.Builder(style).setSelectedPosition(selection.getSelectedPosition()).build();
+        }
+
+        return style;
+    }
+
+    /**
+     * Start batch of configuration changes. Changes made through returned {@link Editor} are
+     * applied at once by {@link Editor#apply()}: single style is built, animator is replaced at most once,
+     * coordinates and frame values are recalculated only once and at most one layout request and one invalidation
+     * are issued. Returned editor instance is reused between calls.
+     */
+    @NonNull
+    public Editor edit() {
+        if (editor == null) {
+            editor = new Editor();
+        }
+
+        editor.start();
+        return editor;
+    }
+
+    /**
+     * Batch of configuration changes, started by {@link #edit()}. Changed attributes are collected
+     * in a single reused {@link IndicatorStyle.Builder} and applied by {@link #apply()}.
+     */
+    public class Editor {
+
+        private IndicatorStyle.Builder builder = new IndicatorStyle.Builder();
+        private int changes;
+
+        private Editor() {/*empty*/}
+
+        private void start() {
+            builder.from(getStyle());
+            changes = 0;
+        }
+
+        @NonNull
+        public Editor setCount(int count) {
+            builder.setCount(count);
+            changes |= CHANGE_LAYOUT;
+            return this;
+        }
+
+        @NonNull
+        public Editor setMaxVisibleCount(int maxVisibleCount) {
+            if (maxVisibleCount < 0) {
+                maxVisibleCount = 0;
+            }
+
+            builder.setMaxVisibleCount(maxVisibleCount);
+            changes |= CHANGE_LAYOUT;
+            return this;
+        }
+
+        @NonNull
+        public Editor setReservedCount(int reservedCount) {
+            if (reservedCount < 0) {
+                reservedCount = 0;
+            }
+
+            builder.setReservedCount(reservedCount);
+            changes |= CHANGE_LAYOUT;
+            return this;
+        }
+
+        @NonNull
+        public Editor setRadius(int radiusDp) {
+            if (radiusDp < 0) {
+                radiusDp = 0;
+            }
+
+            builder.setRadiusPx(DensityUtils.dpToPx(radiusDp));
+            changes |= CHANGE_LAYOUT;
+            return this;
+        }
+
+        @NonNull
+        public Editor setPadding(int paddingDp) {
+            builder.setPaddingPx(DensityUtils.dpToPx(paddingDp));
+            changes |= CHANGE_LAYOUT;
+            return this;
+        }
+
+        @NonNull
+        public Editor setUnselectedColor(int color) {
+            builder.setUnselectedColor(color);
+            changes |= CHANGE_STYLE;
+            return this;
+        }
+
+        @NonNull
+        public Editor setSelectedColor(int color) {
+            builder.setSelectedColor(color);
+            changes |= CHANGE_STYLE;
+            return this;
+        }
+
+        @NonNull
+        public Editor setAnimationType(@Nullable AnimationType type) {
+            builder.setAnimationType(type != null ? type : AnimationType.NONE);
+            changes |= CHANGE_STYLE;
+            return this;
+        }
+
+        /**
+         * Apply all changes made in this batch: build style once, replace animator if animation type
+         * was changed and recalculate indicator.
+         */
+        public void apply() {
+            if (changes == 0) {
+                return;
+            }
+
+            AnimationType type = style.getAnimationType();
+            style = builder.build();
+            selection.setCount(style.getCount());
+
+            if (type != style.getAnimationType()) {
+                setBuiltInAnimator(getQualityAnimationType());
+            }
+
+            int appliedChanges = changes;
+            changes = 0;
+            onConfigChanged(appliedChanges);
+        }
+    }
+
+    /**
+     * Return position of currently selected circle indicator.
+     */
+    public int getSelection() {
+        return selection.getSelectedPosition();
+    }
+
+    /**
+     * Set {@link IndicatorCoordinator} this indicator is attached to, so selection changes are routed through it.
+     */
+    void setCoordinator(@Nullable IndicatorCoordinator coordinator) {
+        this.coordinator = coordinator;
+    }
+
+    /**
+     * Handle page selected in this indicator only.
+     */
+    void onSelected(int position) {
+        if (!isInteractive() || animator == null) {
+            select(position);
+        }
+    }
+
+    /**
+     * Handle scroll state already calculated by {@link IndicatorCoordinator} for all of its indicators.
+     * Positions beyond count of this indicator are clamped by it.
+     */
+    void onScrollProgress(@NonNull SelectionState state) {
+        if (metrics != null && pendingInputNanos == 0) {
+            pendingInputNanos = nanoTime();
+        }
+
+        if (isInteractive()) {
+            selection.set(state);
+            onSelectionProgress();
+        }
+    }
+
+    private void onPageScroll(int position, float positionOffset) {
+        if (isInteractive()) {
+            selection.onPageScrolled(position, positionOffset);
+            onSelectionProgress();
+        }
+    }
+
+    /**
+     * Scroll window along with selection and set progress of interactive animation.
+     */
+    private void onSelectionProgress() {
+        updateWindow(selection.getScrollPosition());
+
+        if (animator != null && adaptiveQuality != null) {
+            long startNanos = nanoTime();
+            isProgressMeasured = true;
+            animator.progress(selection.getProgress());
+            isProgressMeasured = false;
+            pendingUpdateNanos += nanoTime() - startNanos;
+
+        } else if (animator != null) {
+            animator.progress(selection.getProgress());
+        }
+    }
+
+    private void drawIndicatorView(@NonNull Canvas canvas) {
+        if (style.getCount() <= 0 || !canvas.getClipBounds(clipRect)) {
+            return;
+        }
+
+        int y = getBounds().height() / 2;
+        int animatedPosition = getAnimatedPosition();
+        int animatedReversePosition = getAnimatedReversePosition();
+
+        drawnAnimatedPosition = animatedPosition;
+        drawnAnimatedReversePosition = animatedReversePosition;
+        drawnTrailingPosition = getTrailingPosition();
+        unselectedRadiusPx = getUnselectedRadius();
+
+        if (layout.isWindowed()) {
+            drawWindow(canvas, animatedPosition, animatedReversePosition, y);
+            return;
+        }
+
+        if ((style.isStaticLayer() || isQualityTier(QualityTier.STATIC_LAYER)) && prepareLayer()) {
+            drawWithLayer(canvas, animatedPosition, animatedReversePosition, drawnTrailingPosition, y);
+            return;
+        }
+
+        int firstPosition = layout.getFirstVisiblePosition(clipRect.left);
+        int lastPosition = layout.getLastVisiblePosition(clipRect.right);
+
+        for (int i = firstPosition; i <= lastPosition; i++) {
+            int x = getXCoordinate(i);
+            drawCircle(canvas, i, x, y);
+        }
+
+        //slide circle and worm rect are drawn beyond their own circle bounds,
+        //so animated circles are drawn even if they are out of clip bounds
+        drawOutOfClipCircle(canvas, animatedPosition, firstPosition, lastPosition, y);
+        if (animatedReversePosition != animatedPosition) {
+            drawOutOfClipCircle(canvas, animatedReversePosition, firstPosition, lastPosition, y);
+        }
+    }
+
+    /**
+     * Draw only circles inside of visible window, clipped by its bounds, so drawing cost
+     * depends on window size and not on total count. Static layer is not used here,
+     * as every window scroll would invalidate it.
+     */
+    private void drawWindow(@NonNull Canvas canvas, int animatedPosition, int animatedReversePosition, int y) {
+        if (!clipRect.intersect(layout.getLeft(), 0, layout.getRight(), getBounds().height())) {
+            return;
+        }
+
+        int firstPosition = layout.getFirstVisiblePosition(clipRect.left);
+        int lastPosition = layout.getLastVisiblePosition(clipRect.right);
+
+        int saveCount = canvas.save();
+        canvas.clipRect(clipRect);
+
+        for (int i = firstPosition; i <= lastPosition; i++) {
+            int x = getXCoordinate(i);
+            drawCircle(canvas, i, x, y);
+        }
+
+        drawOutOfClipCircle(canvas, animatedPosition, firstPosition, lastPosition, y);
+        if (animatedReversePosition != animatedPosition) {
+            drawOutOfClipCircle(canvas, animatedReversePosition, firstPosition, lastPosition, y);
+        }
+
+        canvas.restoreToCount(saveCount);
+    }
+
+    /**
+     * Blit static layer around animated circles, so each of them is drawn only once
+     * and then draw animated circles on top of it.
+     */
+    private void drawWithLayer(@NonNull Canvas canvas, int animatedPosition, int animatedReversePosition, int trailingPosition, int y) {
+        int size = addLayerPosition(0, animatedPosition);
+        size = addLayerPosition(size, animatedReversePosition);
+        if (trailingPosition >= 0 && trailingPosition < style.getCount()) {
+            size = addLayerPosition(size, trailingPosition);
+        }
+
+        int halfPadding = style.getPaddingPx() / 2;
+        int left = 0;
+
+        for (int i = 0; i < size; i++) {
+            int x = getXCoordinate(layerPositions[i]);
+            drawLayerPart(canvas, left, x - style.getRadiusPx() - halfPadding);
+            left = x + style.getRadiusPx() + halfPadding;
+        }
+        drawLayerPart(canvas, left, layerBitmap.getWidth());
+
+        for (int i = 0; i < size; i++) {
+            int position = layerPositions[i];
+            drawCircle(canvas, position, getXCoordinate(position), y);
+        }
+    }
+
+    /**
+     * Insert position into first positions of {@link #layerPositions}, keeping them in ascending order without duplicates.
+     *
+     * @return count of positions after insertion.
+     */
+    private int addLayerPosition(int size, int position) {
+        for (int i = 0; i < size; i++) {
+            if (layerPositions[i] == position) {
+                return size;
+            }
+        }
+
+        int i = size;
+        while (i > 0 && layerPositions[i - 1] > position) {
+            layerPositions[i] = layerPositions[i - 1];
+            i--;
+        }
+
+        layerPositions[i] = position;
+        return size + 1;
+    }
+
+    private void drawLayerPart(@NonNull Canvas canvas, int left, int right) {
+        if (left < clipRect.left) {
+            left = clipRect.left;
+        }
+
+        if (right > clipRect.right) {
+            right = clipRect.right;
+        }
+
+        if (left >= right) {
+            return;
+        }
+
+        layerRect.set(left, 0, right, layerBitmap.getHeight());
+        canvas.drawBitmap(layerBitmap, layerRect, layerRect, layerPaint);
+    }
+
+    /**
+     * Make sure static layer is up to date with current circles state.
+     *
+     * @return true if layer is ready to be drawn.
+     */
+    private boolean prepareLayer() {
+        int width = getBounds().width();
+        int height = getBounds().height();
+
+        if (width <= 0 || height <= 0) {
+            return false;
+        }
+
+        if (isLayerValid && layerBitmap != null) {
+            return true;
+        }
+
+        if (layerBitmap == null || layerBitmap.getWidth() != width || layerBitmap.getHeight() != height) {
+            releaseLayer();
+            layerBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+
+        } else {
+            layerBitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        int radius = getUnselectedRadius();
+        Canvas layerCanvas = new Canvas(layerBitmap);
+        int y = height / 2;
+
+        paint.setColor(style.getUnselectedColor());
+        for (int i = 0; i < style.getCount(); i++) {
+            layerCanvas.drawCircle(getXCoordinate(i), y, radius, paint);
+        }
+
+        isLayerValid = true;
+        return true;
+    }
+
+    private void invalidateLayer() {
+        isLayerValid = false;
+    }
+
+    private void releaseLayer() {
+        if (layerBitmap != null) {
+            layerBitmap.recycle();
+            layerBitmap = null;
+        }
+
+        isLayerValid = false;
+    }
+
+    private void drawOutOfClipCircle(@NonNull Canvas canvas, int position, int firstPosition, int lastPosition, int y) {
+        boolean isOutOfClip = position < firstPosition || position > lastPosition;
+        if (isOutOfClip && position >= 0 && position < style.getCount()) {
+            drawCircle(canvas, position, getXCoordinate(position), y);
+        }
+    }
+
+    private void drawCircle(@NonNull Canvas canvas, int position, int x, int y) {
+        if (animator != null && (position == drawnAnimatedPosition || position == drawnAnimatedReversePosition)) {
+            animator.draw(canvas, x, y, position != drawnAnimatedPosition);
+        } else if (animator != null && position == drawnTrailingPosition) {
+            animator.drawTrailing(canvas, x, y);
+        } else {
+            drawWithNoEffect(canvas, position, x, y);
+        }
+    }
+
+    /**
+     * Draw circle with current paint color, blitting it from sprite atlas if enabled.
+     */
+    private void drawDot(@NonNull Canvas canvas, int x, int y, int radius) {
+        if (style.isSpriteAtlas() && prepareAtlas() && atlas.draw(canvas, x, y, radius, paint)) {
+            return;
+        }
+
+        canvas.drawCircle(x, y, radius, paint);
+    }
+
+    /**
+     * Make sure sprite atlas is built for current radius range and anti-aliasing of quality tier.
+     *
+     * @return true if atlas is ready to be drawn, false if circles should be drawn directly.
+     */
+    private boolean prepareAtlas() {
+        if (style.getCount() <= 0 || getBounds().isEmpty()) {
+            return false;
+        }
+
+        if (atlas == null) {
+            atlas = new DotAtlas();
+        }
+
+        int minRadius = style.getRadiusPx();
+        if (style.getScaleFactor() > 1) {
+            minRadius /= style.getScaleFactor();
+        }
+
+        if (style.isShrinkEdges()) {
+            minRadius /= 2;
+        }
+
+        return atlas.prepare(minRadius, style.getRadiusPx(), paint.isAntiAlias());
+    }
+
+    private void releaseAtlas() {
+        if (atlas != null) {
+            atlas.release();
+        }
+    }
+
+    private void drawWithNoEffect(@NonNull Canvas canvas, int position, int x, int y) {
+        int radius = unselectedRadiusPx;
+        int color = style.getUnselectedColor();
+
+        if (style.isShrinkEdges()) {
+            radius *= layout.getEdgeScale(position);
+        }
+
+        if (position == selection.getSelectedPosition()) {
+            color = style.getSelectedColor();
+        }
+
+        paint.setColor(color);
+        drawDot(canvas, x, y, radius);
+    }
+
+    private void initFrameValues() {
+        if (animator != null) {
+            animator.reset();
+        }
+
+        //force next animation frame to be invalidated
+        invalidationTracker.reset();
+    }
+
+    /**
+     * Return position of circle selection moves to: selecting one when animation is interactive, otherwise selected one.
+     */
+    private int getAnimatedPosition() {
+        return isInteractive() ? selection.getSelectingPosition() : selection.getSelectedPosition();
+    }
+
+    /**
+     * Return position of circle selection moves from: selected one when animation is interactive, otherwise last selected one.
+     */
+    private int getAnimatedReversePosition() {
+        return isInteractive() ? selection.getSelectedPosition() : selection.getLastSelectedPosition();
+    }
+
+    /**
+     * Return position of circle still animated after animation was retargeted from it, or -1 if there is none.
+     */
+    private int getTrailingPosition() {
+        return animator != null && !isInteractive() ? animator.getTrailingPosition() : IndicatorAnimator.NO_POSITION;
+    }
+
+    private int getUnselectedRadius() {
+        return animator != null ? animator.getUnselectedRadius() : style.getRadiusPx();
+    }
+
+    /**
+     * Return built-in animator of given animation type.
+     */
+    @Nullable
+    private static IndicatorAnimator createAnimator(@NonNull AnimationType type) {
+        switch (type) {
+            case COLOR:
+                return new ColorIndicatorAnimator();
+
+            case SCALE:
+                return new ScaleIndicatorAnimator();
+
+            case WORM:
+                return new WormIndicatorAnimator();
+
+            case SLIDE:
+                return new SlideIndicatorAnimator();
+        }
+
+        return null;
+    }
+
+    /**
+     * Invalidate animation frame, unless neither frame values nor animated positions were
+     * changed since last invalidated frame, so it would be drawn exactly the same.
+     *
+     * Cost of timed animation updates is recorded for {@link AdaptiveQuality}, same as cost of interactive ones.
+     *
+     * @param isFrameChanged true if any of frame values was changed by this update.
+     */
+    private void onAnimationUpdated(boolean isFrameChanged) {
+        if (metrics != null) {
+            metrics.onAnimationUpdated();
+        }
+
+        if (adaptiveQuality == null || isProgressMeasured) {
+            updateAnimationFrame(isFrameChanged);
+            return;
+        }
+
+        long startNanos = nanoTime();
+        updateAnimationFrame(isFrameChanged);
+        pendingUpdateNanos += nanoTime() - startNanos;
+    }
+
+    private void updateAnimationFrame(boolean isFrameChanged) {
+        int animatedPosition = getAnimatedPosition();
+        int animatedReversePosition = getAnimatedReversePosition();
+
+        int trailingPosition = getTrailingPosition();
+
+        if (!invalidationTracker.onFrame(isFrameChanged, animatedPosition, animatedReversePosition, trailingPosition)) {
+            if (metrics != null) {
+                metrics.onFrameSkipped();
+            }
+            return;
+        }
+
+        if (!postponeFrame()) {
+            invalidateFrame();
+        }
+    }
+
+    /**
+     * Postpone invalidation of animation frame, which comes sooner than {@link #setMaxFrameRate(int)} allows,
+     * till the next allowed frame time. Only the latest of postponed frames is then drawn.
+     *
+     * @return true if frame was postponed.
+     */
+    private boolean postponeFrame() {
+        int frameRate = getFrameRate();
+        if (frameRate <= 0) {
+            return false;
+        }
+
+        if (isFramePending) {
+            return true;
+        }
+
+        long time = SystemClock.uptimeMillis();
+        long frameTime = lastFrameTime + 1000 / frameRate - FRAME_TIME_SLOP;
+
+        if (time >= frameTime) {
+            lastFrameTime = time;
+            return false;
+        }
+
+        isFramePending = true;
+        scheduleSelf(frameRunnable, frameTime);
+        return true;
+    }
+
+    /**
+     * Invalidate only horizontal span affected by animation frame: union of previous and
+     * current bounds of animated circles and of anything animator draws beyond them, e.g. worm rect.
+     */
+    private void invalidateFrame() {
+        int animatedPosition = getAnimatedPosition();
+        int animatedReversePosition = getAnimatedReversePosition();
+
+        int x = getXCoordinate(animatedPosition);
+        int reverseX = getXCoordinate(animatedReversePosition);
+
+        int left = Math.min(x, reverseX) - style.getRadiusPx();
+        int right = Math.max(x, reverseX) + style.getRadiusPx();
+
+        int trailingPosition = getTrailingPosition();
+        if (trailingPosition >= 0 && trailingPosition < style.getCount()) {
+            int trailingX = getXCoordinate(trailingPosition);
+            left = Math.min(left, trailingX - style.getRadiusPx());
+            right = Math.max(right, trailingX + style.getRadiusPx());
+        }
+
+        if (animator != null) {
+            left = Math.min(left, animator.getFrameLeft());
+            right = Math.max(right, animator.getFrameRight());
+        }
+
+        int dirtyLeft = Math.min(left, frameDirtyLeft) - DIRTY_MARGIN_PX;
+        int dirtyRight = Math.max(right, frameDirtyRight) + DIRTY_MARGIN_PX;
+
+        frameDirtyLeft = left;
+        frameDirtyRight = right;
+
+        if (!isFullyInvalidated) {
+            invalidatePart(dirtyLeft, dirtyRight);
+        }
+    }
+
+    /**
+     * Invalidate horizontal span of drawable through host, or whole drawable if there is no host.
+     */
+    private void invalidatePart(int left, int right) {
+        if (host == null) {
+            invalidateSelf();
+            return;
+        }
+
+        Rect bounds = getBounds();
+        host.invalidateIndicator(bounds.left + left, bounds.top, bounds.left + right, bounds.bottom);
+    }
+
+    private void applyStyle(@NonNull IndicatorStyle style) {
+        selection.setCount(style.getCount());
+        selection.reset(style.getSelectedPosition());
+
+        AnimationType type = this.style.getAnimationType();
+        this.style = style;
+
+        if (type != style.getAnimationType()) {
+            setBuiltInAnimator(getQualityAnimationType());
+        }
+    }
+
+    /**
+     * Recalculate intrinsic size indicator needs.
+     *
+     * @return true if desired size was changed.
+     */
+    private boolean updateDesiredSize() {
+        int width = layout.calculateReservedWidth(style.getReservedCount());
+        int height = style.getRadiusPx() * 2;
+
+        if (width == desiredWidth && height == desiredHeight) {
+            return false;
+        }
+
+        desiredWidth = width;
+        desiredHeight = height;
+        return true;
+    }
+
+    /**
+     * Rebuild table of circle centers. Should be called every time count, radius, padding
+     * or bounds width is changed, so {@link #getXCoordinate(int)} could be resolved in O(1).
+     */
+    private void initCoordinates() {
+        layout.init(style.getCount(), style.getRadiusPx(), style.getPaddingPx(), style.getMaxVisibleCount(), getBounds().width());
+    }
+
+    private int getXCoordinate(int position) {
+        return layout.getXCoordinate(position);
+    }
+
+    /**
+     * Recalculate state depending on changed configuration, or postpone it till
+     * {@link Editor#apply()} in case batch of changes is being edited.
+     *
+     * @param changes combination of {@link #CHANGE_STYLE} and {@link #CHANGE_LAYOUT} flags.
+     */
+    private void onConfigChanged(int changes) {
+        if ((changes & CHANGE_LAYOUT) != 0) {
+            initCoordinates();
+            updateWindow(selection.getSelectedPosition());
+
+            if (updateDesiredSize() && host != null) {
+                host.onIndicatorSizeChanged();
+            }
+        }
+
+        initFrameValues();
+        invalidateLayer();
+        invalidateSelf();
+    }
+
+    /**
+     * Scroll visible window to keep given (possibly fractional) position in its center.
+     */
+    private void updateWindow(float position) {
+        if (layout.updateWindow(position)) {
+            invalidateSelf();
+            isFullyInvalidated = true;
+        }
+    }
+
+    private void cancelPendingScroll() {
+        if (isScrollPending) {
+            unscheduleSelf(scrollRunnable);
+            isScrollPending = false;
+        }
+    }
+
+    /**
+     * Handle pending scroll event right away instead of on next animation frame.
+     */
+    private void flushPendingScroll() {
+        if (isScrollPending) {
+            cancelPendingScroll();
+            onPageScroll(pendingScrollPosition, pendingScrollOffset);
+        }
+    }
+
+    /**
+     * Return max frame rate of animation frames with respect to quality tier, or 0 if it's not limited.
+     */
+    private int getFrameRate() {
+        if (!isQualityTier(QualityTier.HALF_FRAME_RATE)) {
+            return style.getMaxFrameRate();
+        }
+
+        return style.getMaxFrameRate() > 0 ? Math.max(style.getMaxFrameRate() / 2, 1) : halfFrameRate;
+    }
+
+    /**
+     * Return true if indicator is degraded to given quality tier or below.
+     */
+    private boolean isQualityTier(@NonNull QualityTier tier) {
+        return qualityTier.compareTo(tier) >= 0;
+    }
+
+    /**
+     * Return animation type of built-in animator with respect to quality tier.
+     */
+    @NonNull
+    private AnimationType getQualityAnimationType() {
+        if (isQualityTier(QualityTier.SIMPLE_ANIMATION)) {
+            if (style.getAnimationType() == AnimationType.WORM) {
+                return AnimationType.SLIDE;
+            } else if (style.getAnimationType() == AnimationType.SCALE) {
+                return AnimationType.COLOR;
+            }
+        }
+
+        return style.getAnimationType();
+    }
+
+    /**
+     * Replace animator with built-in one of given type. Caller is responsible for invalidation.
+     */
+    private void setBuiltInAnimator(@NonNull AnimationType type) {
+        attachAnimator(createAnimator(type));
+        animatorType = type;
+    }
+
+    private void attachAnimator(@Nullable IndicatorAnimator animator) {
+        if (this.animator != null) {
+            this.animator.cancel();
+        }
+
+        this.animator = animator;
+        if (animator != null) {
+            animator.attach(animatorIndicator);
+            animator.setClock(animationClock);
+            animator.reset();
+        }
+
+        //force next animation frame to be invalidated
+        invalidationTracker.reset();
+    }
+
+    private void applyQualityTier(@NonNull QualityTier tier) {
+        qualityTier = tier;
+        paint.setAntiAlias(!isQualityTier(QualityTier.NO_ANTI_ALIAS));
+
+        if (isQualityTier(QualityTier.HALF_FRAME_RATE)) {
+            float refreshRate = host != null ? host.getRefreshRate() : 0;
+            halfFrameRate = refreshRate > 0 ? Math.max(Math.round(refreshRate / 2), 1) : HALF_FRAME_RATE;
+        }
+
+        //custom animator is never replaced
+        AnimationType type = getQualityAnimationType();
+        if (animatorType != null && animatorType != type) {
+            setBuiltInAnimator(type);
+        }
+
+        if (getFrameRate() == 0 && isFramePending) {
+            cancelPendingFrame();
+            invalidateFrame();
+        }
+
+        invalidateLayer();
+        invalidateSelf();
+    }
+
+    private void cancelPendingQuality() {
+        if (isQualityPending) {
+            unscheduleSelf(qualityRunnable);
+            isQualityPending = false;
+        }
+    }
+
+    private void cancelPendingFrame() {
+        if (isFramePending) {
+            unscheduleSelf(frameRunnable);
+            isFramePending = false;
+        }
+    }
+
+    /**
+     * Return current time of {@link com.rd.metrics.CostClock} indicator work is measured with.
+     */
+    private long nanoTime() {
+        return adaptiveQuality != null ? adaptiveQuality.getClock().nanoTime() : System.nanoTime();
+    }
+
+    /**
+     * Return true if selection follows scroll with interactive animation.
+     */
+    private boolean isInteractive() {
+        return style.isInteractiveAnimation();
+    }
+
+    /**
+     * Read state of {@link MotionPolicy} before selection animation starts, so scroll never queries it.
+     * Once motion becomes reduced, running animation is dropped and circles are drawn in their final state,
+     * so selection changes instantly from now on. Interactive animation keeps following scroll,
+     * as it's driven by user input and not by time.
+     */
+    private void updateMotion() {
+        boolean isReduced = motionPolicy != null && !motionPolicy.isAnimationEnabled();
+        if (isReduced == isMotionReduced) {
+            return;
+        }
+
+        isMotionReduced = isReduced;
+        if (isReduced && animator != null && animator.isRunning()) {
+            animator.cancel();
+            initFrameValues();
+            invalidateSelf();
+        }
+    }
+}
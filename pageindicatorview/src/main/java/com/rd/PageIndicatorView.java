@@ -2,70 +2,73 @@ package com.rd;
 
 import android.annotation.TargetApi;
 import android.content.Context;
-import android.content.res.TypedArray;
 import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
-import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
 import android.os.Build;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.v4.view.ViewPager;
 import android.util.AttributeSet;
-import android.util.Pair;
 import android.view.View;
-import com.rd.pageindicatorview.R;
-import com.rd.utils.DensityUtils;
-import com.rd.animation.AbsAnimation;
+import com.rd.animation.AnimationClock;
 import com.rd.animation.AnimationType;
-import com.rd.animation.ScaleAnimation;
-import com.rd.animation.ValueAnimation;
-
+import com.rd.animation.MotionPolicy;
+import com.rd.draw.IndicatorAnimator;
+import com.rd.metrics.AdaptiveQuality;
+import com.rd.metrics.IndicatorMetrics;
+import com.rd.metrics.ScrollTraceRecorder;
+import com.rd.scroll.RecyclerViewScrollSource;
+import com.rd.scroll.ScrollSource;
+import com.rd.utils.DisplayUtils;
+
+/**
+ * View hosting single {@link PageIndicatorDrawable}, which keeps all of indicator drawing and animation state.
+ * View measures itself by intrinsic size of drawable and forwards configuration and scroll events to it.
+ */
 public class PageIndicatorView extends View implements ViewPager.OnPageChangeListener {
 
-    private static final String DEFAULT_UNSELECTED_COLOR = "#33ffffff";
-    private static final String DEFAULT_SELECTED_COLOR = "#ffffff";
-
-    private static final int DEFAULT_CIRCLES_COUNT = 3;
-    private static final int DEFAULT_RADIUS_DP = 6;
-    private static final int DEFAULT_PADDING_DP = 8;
-
-    private int radiusPx = DensityUtils.dpToPx(DEFAULT_RADIUS_DP);
-    private int paddingPx = DensityUtils.dpToPx(DEFAULT_PADDING_DP);
-    private int count = DEFAULT_CIRCLES_COUNT;
-
-    //Color
-    private int unselectedColor = Color.parseColor(DEFAULT_UNSELECTED_COLOR);
-    private int selectedColor = Color.parseColor(DEFAULT_SELECTED_COLOR);
-
-    private int frameColor;
-    private int frameColorReverse;
+    private PageIndicatorDrawable drawable;
 
-    //Scale
-    private int frameRadiusPx;
-    private int frameRadiusReversePx;
-    private float scaleFactor;
+    private ViewPager viewPager;
+    private ScrollSource scrollSource;
+    private ScrollTraceRecorder traceRecorder;
+
+    private ScrollSource.Listener scrollListener = new ScrollSource.Listener() {
+        @Override
+        public void onPageScrolled(int position, float positionOffset) {
+            if (traceRecorder != null) {
+                traceRecorder.onPageScrolled(position, positionOffset);
+            }
 
-    //Worm
-    private int frameLeftX;
-    private int frameRightX;
+            drawable.onPageScrolled(position, positionOffset);
+        }
 
-    //Slide
-    private int frameXCoordinate;
+        @Override
+        public void onPageSelected(int position) {
+            if (traceRecorder != null) {
+                traceRecorder.onPageSelected(position);
+            }
 
-    private int selectedPosition;
-    private int selectingPosition;
-    private int lastSelectedPosition;
+            drawable.onPageSelected(position);
+        }
+    };
 
-    private boolean interactiveAnimation;
-    private long animationDuration;
+    private PageIndicatorDrawable.Host host = new PageIndicatorDrawable.Host() {
+        @Override
+        public void invalidateIndicator(int left, int top, int right, int bottom) {
+            invalidate(left, top, right, bottom);
+        }
 
-    private Paint paint = new Paint();
-    private RectF rect = new RectF();
+        @Override
+        public void onIndicatorSizeChanged() {
+            requestLayout();
+        }
 
-    private AnimationType animationType = AnimationType.NONE;
-    private ValueAnimation animation;
-    private ViewPager viewPager;
+        @Override
+        public float getRefreshRate() {
+            return DisplayUtils.getRefreshRate(PageIndicatorView.this);
+        }
+    };
 
     public PageIndicatorView(Context context) {
         super(context);
@@ -88,7 +91,6 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         init(attrs);
     }
 
-    @SuppressWarnings("UnnecessaryLocalVariable")
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
         int widthMode = MeasureSpec.getMode(widthMeasureSpec);
@@ -96,13 +98,8 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         int heightMode = MeasureSpec.getMode(heightMeasureSpec);
         int heightSize = MeasureSpec.getSize(heightMeasureSpec);
 
-        int circleDiameterPx = radiusPx * 2;
-        int desiredHeight = circleDiameterPx;
-        int desiredWidth = 0;
-
-        if (count != 0) {
-            desiredWidth = (circleDiameterPx * count) + (paddingPx * (count - 1));
-        }
+        int desiredWidth = drawable.getIntrinsicWidth();
+        int desiredHeight = drawable.getIntrinsicHeight();
 
         int width;
         int height;
@@ -134,27 +131,52 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
         setMeasuredDimension(width, height);
     }
 
+    @Override
+    protected void onSizeChanged(int width, int height, int oldWidth, int oldHeight) {
+        super.onSizeChanged(width, height, oldWidth, oldHeight);
+        drawable.setBounds(0, 0, width, height);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        drawable.release();
+        super.onDetachedFromWindow();
+    }
+
     @Override
     protected void onDraw(Canvas canvas) {
-        drawIndicatorView(canvas);
+        drawable.draw(canvas);
+    }
+
+    @Override
+    protected boolean verifyDrawable(Drawable who) {
+        return who == drawable || super.verifyDrawable(who);
     }
 
     @Override
     public void onPageScrolled(int position, float positionOffset, int positionOffsetPixels) {
-        if (interactiveAnimation) {
-            onPageScroll(position, positionOffset);
-        }
+        scrollListener.onPageScrolled(position, positionOffset);
     }
 
     @Override
     public void onPageSelected(int position) {
-        if (!interactiveAnimation || animationType == AnimationType.NONE) {
-            setSelection(position);
-        }
+        scrollListener.onPageSelected(position);
     }
 
     @Override
-    public void onPageScrollStateChanged(int state) {/*empty*/}
+    public void onPageScrollStateChanged(int state) {
+        if (traceRecorder != null) {
+            traceRecorder.onPageScrollStateChanged(state);
+        }
+    }
+
+    /**
+     * Return {@link PageIndicatorDrawable} drawn by this view, e.g. to configure it directly.
+     */
+    @NonNull
+    public PageIndicatorDrawable getIndicatorDrawable() {
+        return drawable;
+    }
 
     /**
      * Set number of circle indicators to be displayed.
@@ -162,119 +184,99 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
      * @param count total count of indicators.
      */
     public void setCount(int count) {
-        this.count = count;
-        invalidate();
+        drawable.setCount(count);
     }
 
     /**
      * Return number of circle indicators
      */
     public int getCount() {
-        return count;
+        return drawable.getCount();
     }
 
     /**
-     * Set radius in dp of each circle indicator. Default value is {@link PageIndicatorView#DEFAULT_RADIUS_DP}.
+     * Set radius in dp of each circle indicator. Default value is {@link PageIndicatorDrawable#DEFAULT_RADIUS_DP}.
      * Note: make sure you set circle Radius, not a Diameter.
      *
      * @param radiusDp radius of circle in dp.
      */
     public void setRadius(int radiusDp) {
-        if (radiusDp < 0) {
-            radiusDp = 0;
-        }
-
-        radiusPx = DensityUtils.dpToPx(radiusDp);
-        initFrameValues();
-
-        invalidate();
+        drawable.setRadius(radiusDp);
     }
 
     /**
      * Return radius of each circle indicators in dp. If custom radius is not set, return
-     * default value {@link PageIndicatorView#DEFAULT_RADIUS_DP}.
+     * default value {@link PageIndicatorDrawable#DEFAULT_RADIUS_DP}.
      */
     public int getRadius() {
-        return DensityUtils.dpToPx(radiusPx);
+        return drawable.getRadius();
     }
 
     /**
-     * Set padding in dp between each circle indicator. Default value is {@link PageIndicatorView#DEFAULT_PADDING_DP}.
+     * Set padding in dp between each circle indicator. Default value is {@link PageIndicatorDrawable#DEFAULT_PADDING_DP}.
      *
      * @param paddingDp padding between circles.
      */
     public void setPadding(int paddingDp) {
-        paddingPx = DensityUtils.dpToPx(paddingDp);
-        initFrameValues();
-
-        invalidate();
+        drawable.setPadding(paddingDp);
     }
 
     /**
      * Return padding in dp between each circle indicator. If custom padding is not set,
-     * return default value {@link PageIndicatorView#DEFAULT_PADDING_DP}.
+     * return default value {@link PageIndicatorDrawable#DEFAULT_PADDING_DP}.
      */
     public int getPadding() {
-        return DensityUtils.dpToPx(paddingPx);
+        return drawable.getPadding();
     }
 
     /**
-     * Set color of unselected state to each circle indicator. Default color {@link PageIndicatorView#DEFAULT_UNSELECTED_COLOR}.
+     * Set color of unselected state to each circle indicator. Default color {@link PageIndicatorDrawable#DEFAULT_UNSELECTED_COLOR}.
      *
      * @param color color of each unselected circle.
      */
     public void setUnselectedColor(int color) {
-        unselectedColor = color;
-        initFrameValues();
-
-        invalidate();
+        drawable.setUnselectedColor(color);
     }
 
     /**
      * Return color of unselected state of each circle indicator. If custom unselected color
-     * is not set, return default color {@link PageIndicatorView#DEFAULT_UNSELECTED_COLOR}.
+     * is not set, return default color {@link PageIndicatorDrawable#DEFAULT_UNSELECTED_COLOR}.
      */
     public int getUnselectedColor() {
-        return unselectedColor;
+        return drawable.getUnselectedColor();
     }
 
     /**
-     * Set color of selected state to circle indicator. Default color is white {@link PageIndicatorView#DEFAULT_SELECTED_COLOR}.
+     * Set color of selected state to circle indicator. Default color is white {@link PageIndicatorDrawable#DEFAULT_SELECTED_COLOR}.
      *
      * @param color color selected circle.
      */
     public void setSelectedColor(int color) {
-        selectedColor = color;
-        initFrameValues();
-
-        invalidate();
+        drawable.setSelectedColor(color);
     }
 
     /**
      * Return color of selected circle indicator. If custom unselected color.
-     * is not set, return default color {@link PageIndicatorView#DEFAULT_SELECTED_COLOR}.
+     * is not set, return default color {@link PageIndicatorDrawable#DEFAULT_SELECTED_COLOR}.
      */
     public int getSelectedColor() {
-        return selectedColor;
+        return drawable.getSelectedColor();
     }
 
     /**
-     * Set animation duration time in millisecond. Default animation duration time is {@link AbsAnimation#DEFAULT_ANIMATION_TIME}.
-     * (Won't affect on anything unless {@link #setAnimationType(AnimationType type)} is specified
-     * and {@link #setInteractiveAnimation(boolean isInteractive)} is false).
+     * Set animation duration time in millisecond, see {@link PageIndicatorDrawable#setAnimationDuration(long)}.
      *
      * @param duration animation duration time.
      */
     public void setAnimationDuration(long duration) {
-        animationDuration = duration;
+        drawable.setAnimationDuration(duration);
     }
 
     /**
-     * Return animation duration time in milliseconds. If custom duration is not set,
-     * return default duration time {@link AbsAnimation#DEFAULT_ANIMATION_TIME}.
+     * Return animation duration time in milliseconds.
      */
     public long getAnimationDuration() {
-        return animationDuration;
+        return drawable.getAnimationDuration();
     }
 
     /**
@@ -284,11 +286,17 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
      * @param type type of animation, one of {@link AnimationType}
      */
     public void setAnimationType(@Nullable AnimationType type) {
-        if (type != null) {
-            animationType = type;
-        } else {
-            animationType = AnimationType.NONE;
-        }
+        drawable.setAnimationType(type);
+    }
+
+    /**
+     * Set custom {@link IndicatorAnimator} to perform while selecting new circle indicator,
+     * see {@link PageIndicatorDrawable#setIndicatorAnimator(IndicatorAnimator)}.
+     *
+     * @param animator instance of {@link IndicatorAnimator} or null to select circles without animation.
+     */
+    public void setIndicatorAnimator(@Nullable IndicatorAnimator animator) {
+        drawable.setIndicatorAnimator(animator);
     }
 
     /**
@@ -297,512 +305,310 @@ public class PageIndicatorView extends View implements ViewPager.OnPageChangeLis
      * @param isInteractive value of animation to be interactive or not.
      */
     public void setInteractiveAnimation(boolean isInteractive) {
-        interactiveAnimation = isInteractive;
+        drawable.setInteractiveAnimation(isInteractive);
     }
 
     /**
-     * Set progress value in range [0 - 1] to specify state of animation while selecting new circle indicator.
-     * (Won't affect on anything unless {@link #setInteractiveAnimation(boolean isInteractive)} is false).
+     * Set boolean value to compute animation frames with single frame engine,
+     * see {@link PageIndicatorDrawable#setFrameAnimation(boolean)}.
      *
-     * @param selectingPosition selecting position with specific progress value.
-     * @param progress          float value of progress.
+     * @param isFrameAnimation value of animation to be calculated by frame engine or not.
      */
-    public void setProgress(int selectingPosition, float progress) {
-        if (interactiveAnimation) {
-
-            if (selectingPosition < 0) {
-                selectingPosition = 0;
-
-            } else if (selectingPosition > count - 1) {
-                selectingPosition = count - 1;
-            }
-
-            if (progress < 0) {
-                progress = 0;
-
-            } else if (progress > 1) {
-                progress = 1;
-            }
-
-            this.selectingPosition = selectingPosition;
-            AbsAnimation animator = getSelectedAnimation();
-
-            if (animator != null) {
-                animator.progress(progress);
-            }
-        }
+    public void setFrameAnimation(boolean isFrameAnimation) {
+        drawable.setFrameAnimation(isFrameAnimation);
     }
 
     /**
-     * Set specific circle indicator position to be selected. If position < or > total count,
-     * accordingly first or last circle indicator will be selected.
+     * Set boolean value to draw unselected circles from cached bitmap layer,
+     * see {@link PageIndicatorDrawable#setStaticLayer(boolean)}.
      *
-     * @param position position of indicator to select.
+     * @param isStaticLayer value of unselected circles to be cached in static layer or not.
      */
-    public void setSelection(int position) {
-        if (position < 0) {
-            position = 0;
-
-        } else if (position > count - 1) {
-            position = count - 1;
-        }
-
-        lastSelectedPosition = selectedPosition;
-        selectedPosition = position;
-
-        switch (animationType) {
-            case NONE:
-                invalidate();
-                break;
-
-            case COLOR:
-                startColorAnimation();
-                break;
-
-            case SCALE:
-                startScaleAnimation();
-                break;
-
-            case WORM:
-                startWormAnimation();
-                break;
-
-            case SLIDE:
-                startSlideAnimation();
-                break;
-        }
+    public void setStaticLayer(boolean isStaticLayer) {
+        drawable.setStaticLayer(isStaticLayer);
     }
 
     /**
-     * Return position of currently selected circle indicator.
+     * Set boolean value to draw circles as bitmap blits from sprite atlas,
+     * see {@link PageIndicatorDrawable#setSpriteAtlas(boolean)}.
+     *
+     * @param isSpriteAtlas value of circles to be drawn from sprite atlas or not.
      */
-    public int getSelection() {
-        return selectedPosition;
+    public void setSpriteAtlas(boolean isSpriteAtlas) {
+        drawable.setSpriteAtlas(isSpriteAtlas);
     }
 
     /**
-     * Set {@link ViewPager} to add {@link ViewPager.OnPageChangeListener} to automatically
-     * handle selecting new indicators events (and interactive animation effect in case
-     * interactive animation is enabled).
+     * Set max number of circle indicators to be displayed at once,
+     * see {@link PageIndicatorDrawable#setMaxVisibleCount(int)}.
      *
-     * @param pager instance of {@link ViewPager} to work with
+     * @param maxVisibleCount max number of visible circles or 0 to display all of them.
      */
-    public void setViewPager(@Nullable ViewPager pager) {
-        if (pager != null) {
-            viewPager = pager;
-            viewPager.addOnPageChangeListener(this);
-        }
+    public void setMaxVisibleCount(int maxVisibleCount) {
+        drawable.setMaxVisibleCount(maxVisibleCount);
     }
 
     /**
-     * Release {@link ViewPager} and stop handling events of {@link ViewPager.OnPageChangeListener}.
+     * Return max number of circle indicators to be displayed at once or 0 if all circles are displayed.
      */
-    public void releaseViewPager() {
-        if (viewPager != null) {
-            viewPager.removeOnPageChangeListener(this);
-            viewPager = null;
-        }
+    public int getMaxVisibleCount() {
+        return drawable.getMaxVisibleCount();
     }
 
-    private void onPageScroll(int position, float positionOffset) {
-        Pair<Integer, Float> progressPair = getProgress(position, positionOffset);
-        int selectingPosition = progressPair.first;
-        float selectingProgress = progressPair.second;
-
-        if (selectingProgress == 1) {
-            lastSelectedPosition = selectedPosition;
-            selectedPosition = selectingPosition;
-        }
-
-        setProgress(selectingPosition, selectingProgress);
+    /**
+     * Set number of circle indicators to reserve size for, see {@link PageIndicatorDrawable#setReservedCount(int)}.
+     *
+     * @param reservedCount number of circle indicators to reserve size for.
+     */
+    public void setReservedCount(int reservedCount) {
+        drawable.setReservedCount(reservedCount);
     }
 
-    private void drawIndicatorView(@NonNull Canvas canvas) {
-        int y = getHeight() / 2;
-
-        for (int i = 0; i < count; i++) {
-            int x = getXCoordinate(i);
-            drawCircle(canvas, i, x, y);
-        }
+    /**
+     * Return number of circle indicators size is reserved for.
+     */
+    public int getReservedCount() {
+        return drawable.getReservedCount();
     }
 
-    private void drawCircle(@NonNull Canvas canvas, int position, int x, int y) {
-        boolean selectedItem = !interactiveAnimation && (position == selectedPosition || position == lastSelectedPosition);
-        boolean selectingItem = interactiveAnimation && (position == selectingPosition || position == selectedPosition);
-        boolean isSelectedItem = selectedItem | selectingItem;
-
-        if (isSelectedItem) {
-            drawWithAnimationEffect(canvas, position, x, y);
-        } else {
-            drawWithNoEffect(canvas, position, x, y);
-        }
+    /**
+     * Set boolean value to shrink circles at the edges of visible window,
+     * see {@link PageIndicatorDrawable#setShrinkEdges(boolean)}.
+     *
+     * @param isShrinkEdges value of edge circles to be shrunk or not.
+     */
+    public void setShrinkEdges(boolean isShrinkEdges) {
+        drawable.setShrinkEdges(isShrinkEdges);
     }
 
-    private void drawWithAnimationEffect(@NonNull Canvas canvas, int position, int x, int y) {
-        switch (animationType) {
-            case COLOR:
-                drawWithColorAnimation(canvas, position, x, y);
-                break;
-
-            case SCALE:
-                drawWithScaleAnimation(canvas, position, x, y);
-                break;
-
-            case WORM:
-                drawWithWormAnimation(canvas, x, y);
-                break;
-
-            case SLIDE:
-                drawWithSlideAnimation(canvas, position, x, y);
-                break;
-
-            case NONE:
-                drawWithNoEffect(canvas, position, x, y);
-                break;
-        }
+    /**
+     * Set {@link IndicatorMetrics} to collect draw durations, animation updates, scroll event
+     * to frame latency and animator restarts into. Metrics are not collected by default.
+     *
+     * @param metrics instance of {@link IndicatorMetrics} or null to stop collecting metrics.
+     */
+    public void setMetrics(@Nullable IndicatorMetrics metrics) {
+        drawable.setMetrics(metrics);
     }
 
-    private void drawWithColorAnimation(@NonNull Canvas canvas, int position, int x, int y) {
-        int color = unselectedColor;
-
-        if (interactiveAnimation) {
-            if (position == selectingPosition) {
-                color = frameColor;
-
-            } else if (position == selectedPosition) {
-                color = frameColorReverse;
-            }
-
-        } else {
-            if (position == selectedPosition) {
-                color = frameColor;
-
-            } else if (position == lastSelectedPosition) {
-                color = frameColorReverse;
-            }
-        }
-
-        paint.setColor(color);
-        canvas.drawCircle(x, y, radiusPx, paint);
+    /**
+     * Return {@link IndicatorMetrics} metrics are collected into, or null if metrics are disabled.
+     */
+    @Nullable
+    public IndicatorMetrics getMetrics() {
+        return drawable.getMetrics();
     }
 
-    private void drawWithScaleAnimation(@NonNull Canvas canvas, int position, int x, int y) {
-        int color = unselectedColor;
-        int radius = radiusPx;
-
-        if (interactiveAnimation) {
-            if (position == selectingPosition) {
-                radius = frameRadiusPx;
-                color = frameColor;
-
-            } else if (position == selectedPosition) {
-                radius = frameRadiusReversePx;
-                color = frameColorReverse;
-            }
-
-        } else {
-            if (position == selectedPosition) {
-                radius = frameRadiusPx;
-                color = frameColor;
-
-            } else if (position == lastSelectedPosition) {
-                radius = frameRadiusReversePx;
-                color = frameColorReverse;
-            }
-        }
-
-        paint.setColor(color);
-        canvas.drawCircle(x, y, radius, paint);
+    /**
+     * Set {@link ScrollTraceRecorder} to record scroll events received from {@link ViewPager} or
+     * {@link ScrollSource} into, e.g. to replay them later in library tests.
+     * Events are not recorded by default.
+     *
+     * @param recorder instance of {@link ScrollTraceRecorder} or null to stop recording.
+     */
+    public void setScrollTraceRecorder(@Nullable ScrollTraceRecorder recorder) {
+        traceRecorder = recorder;
     }
 
-    private void drawWithWormAnimation(@NonNull Canvas canvas, int x, int y) {
-        int radius = radiusPx;
-
-        int left = frameLeftX;
-        int right = frameRightX;
-        int top = y - radius;
-        int bot = y + radius;
-
-        rect.left = left;
-        rect.right = right;
-        rect.top = top;
-        rect.bottom = bot;
-
-        paint.setColor(unselectedColor);
-        canvas.drawCircle(x, y, radius, paint);
-
-        paint.setColor(selectedColor);
-        canvas.drawRoundRect(rect, radiusPx, radiusPx, paint);
+    /**
+     * Return {@link ScrollTraceRecorder} scroll events are recorded into, or null if recording is disabled.
+     */
+    @Nullable
+    public ScrollTraceRecorder getScrollTraceRecorder() {
+        return traceRecorder;
     }
 
-    private void drawWithSlideAnimation(@NonNull Canvas canvas, int position, int x, int y) {
-        paint.setColor(unselectedColor);
-        canvas.drawCircle(x, y, radiusPx, paint);
-
-        if (interactiveAnimation && (position == selectingPosition || position == selectedPosition)) {
-            paint.setColor(selectedColor);
-            canvas.drawCircle(frameXCoordinate, y, radiusPx, paint);
-
-        } else if (!interactiveAnimation && (position == selectedPosition || position == lastSelectedPosition)) {
-            paint.setColor(selectedColor);
-            canvas.drawCircle(frameXCoordinate, y, radiusPx, paint);
-        }
+    /**
+     * Set boolean value to handle only the latest of scroll events received between two frames,
+     * see {@link PageIndicatorDrawable#setScrollCoalescing(boolean)}.
+     *
+     * @param isScrollCoalescing value of scroll events to be coalesced or not.
+     */
+    public void setScrollCoalescing(boolean isScrollCoalescing) {
+        drawable.setScrollCoalescing(isScrollCoalescing);
     }
 
-    private void drawWithNoEffect(@NonNull Canvas canvas, int position, int x, int y) {
-        int radius = radiusPx;
-        int color = unselectedColor;
-
-        if (animationType == AnimationType.SCALE) {
-            radius /= scaleFactor;
-        }
-
-        if (position == selectedPosition) {
-            color = selectedColor;
-        }
-
-        paint.setColor(color);
-        canvas.drawCircle(x, y, radius, paint);
+    /**
+     * Set {@link MotionPolicy} to decide whether selection changes are animated or instant,
+     * see {@link PageIndicatorDrawable#setMotionPolicy(MotionPolicy)}. By default indicator follows
+     * system animation settings and battery saver with {@link MotionPolicy#getInstance(Context)}.
+     *
+     * @param policy instance of {@link MotionPolicy} or null to always animate.
+     */
+    public void setMotionPolicy(@Nullable MotionPolicy policy) {
+        drawable.setMotionPolicy(policy);
     }
 
-    private void init(@Nullable AttributeSet attrs) {
-        initAttributes(attrs);
-        initFrameValues();
-        initAnimation();
-
-        paint.setStyle(Paint.Style.FILL);
-        paint.setAntiAlias(true);
+    /**
+     * Return {@link MotionPolicy} selection changes follow, or null if they are always animated.
+     */
+    @Nullable
+    public MotionPolicy getMotionPolicy() {
+        return drawable.getMotionPolicy();
     }
 
-    private void initFrameValues() {
-        //color
-        frameColor = selectedColor;
-        frameColorReverse = unselectedColor;
-
-        //scale
-        frameRadiusPx = radiusPx;
-        frameRadiusReversePx = radiusPx;
-
-        //worm
-        int xCoordinate = getXCoordinate(selectedPosition);
-        if (xCoordinate - radiusPx >= 0) {
-            frameLeftX = xCoordinate - radiusPx;
-            frameRightX = xCoordinate + radiusPx;
-
-        } else {
-            frameLeftX = xCoordinate;
-            frameRightX = xCoordinate + (radiusPx * 2);
-        }
-
-        //slide
-        frameXCoordinate = xCoordinate;
+    /**
+     * Set max number of animation frames per second indicator draws,
+     * see {@link PageIndicatorDrawable#setMaxFrameRate(int)}.
+     *
+     * @param fps max frame rate or 0 to draw every animation frame.
+     */
+    public void setMaxFrameRate(int fps) {
+        drawable.setMaxFrameRate(fps);
     }
 
-    private void initAnimation() {
-        animation = new ValueAnimation(new ValueAnimation.UpdateListener() {
-            @Override
-            public void onColorAnimationUpdated(int color, int colorReverse) {
-                frameColor = color;
-                frameColorReverse = colorReverse;
-                invalidate();
-            }
-
-            @Override
-            public void onScaleAnimationUpdated(int color, int colorReverse, int radius, int radiusReverse) {
-                frameColor = color;
-                frameColorReverse = colorReverse;
-
-                frameRadiusPx = radius;
-                frameRadiusReversePx = radiusReverse;
-                invalidate();
-            }
-
-            @Override
-            public void onWormAnimationUpdated(int leftX, int rightX) {
-                frameLeftX = leftX;
-                frameRightX = rightX;
-                invalidate();
-            }
-
-            @Override
-            public void onSlideAnimationUpdated(int xCoordinate) {
-                frameXCoordinate = xCoordinate;
-                invalidate();
-            }
-        });
+    /**
+     * Return max number of animation frames per second or 0 if frame rate is not limited.
+     */
+    public int getMaxFrameRate() {
+        return drawable.getMaxFrameRate();
     }
 
-    private void initAttributes(@Nullable AttributeSet attrs) {
-        if (attrs == null) {
-            return;
-        }
-
-        TypedArray typedArray = getContext().obtainStyledAttributes(attrs, R.styleable.PageIndicatorView, 0, 0);
-
-        count = typedArray.getInt(R.styleable.PageIndicatorView_count, DEFAULT_CIRCLES_COUNT);
-        int position = typedArray.getInt(R.styleable.PageIndicatorView_select, 0);
-
-        if (position < 0) {
-            position = 0;
-        } else if (count > 0 && position > count - 1) {
-            position = count - 1;
-        }
-
-        selectedPosition = position;
-        selectingPosition = position;
-
-        paddingPx = (int) typedArray.getDimension(R.styleable.PageIndicatorView_padding, paddingPx);
-        radiusPx = (int) typedArray.getDimension(R.styleable.PageIndicatorView_radius, radiusPx);
-
-        scaleFactor = typedArray.getFloat(R.styleable.PageIndicatorView_scaleFactor, ScaleAnimation.DEFAULT_SCALE_FACTOR);
-        if (scaleFactor < ScaleAnimation.MIN_SCALE_FACTOR) {
-            scaleFactor = ScaleAnimation.MIN_SCALE_FACTOR;
-        } else if (scaleFactor > ScaleAnimation.MAX_SCALE_FACTOR) {
-            scaleFactor = ScaleAnimation.MAX_SCALE_FACTOR;
-        }
-
-        unselectedColor = typedArray.getColor(R.styleable.PageIndicatorView_unselectedColor, unselectedColor);
-        selectedColor = typedArray.getColor(R.styleable.PageIndicatorView_selectedColor, selectedColor);
-
-        animationDuration = typedArray.getInt(R.styleable.PageIndicatorView_animationDuration, AbsAnimation.DEFAULT_ANIMATION_TIME);
-        interactiveAnimation = typedArray.getBoolean(R.styleable.PageIndicatorView_interactiveAnimation, false);
-
-        int index = typedArray.getInt(R.styleable.PageIndicatorView_animationType, AnimationType.NONE.ordinal());
-        animationType = getAnimationType(index);
-
-        typedArray.recycle();
+    /**
+     * Set {@link AdaptiveQuality} to lower indicator fidelity once it repeatedly overruns frame budget,
+     * see {@link PageIndicatorDrawable#setAdaptiveQuality(AdaptiveQuality)}.
+     *
+     * @param quality instance of {@link AdaptiveQuality} or null to keep full quality.
+     */
+    public void setAdaptiveQuality(@Nullable AdaptiveQuality quality) {
+        drawable.setAdaptiveQuality(quality);
     }
 
-    private AnimationType getAnimationType(int index) {
-        switch (index) {
-            case 0:
-                return AnimationType.NONE;
-            case 1:
-                return AnimationType.COLOR;
-            case 2:
-                return AnimationType.SCALE;
-            case 3:
-                return AnimationType.WORM;
-            case 4:
-                return AnimationType.SLIDE;
-        }
-
-        return AnimationType.NONE;
+    /**
+     * Return {@link AdaptiveQuality} adapting this indicator, or null if quality is not adapted.
+     */
+    @Nullable
+    public AdaptiveQuality getAdaptiveQuality() {
+        return drawable.getAdaptiveQuality();
     }
 
-    private void startColorAnimation() {
-        animation.color().with(unselectedColor, selectedColor).duration(animationDuration).start();
+    /**
+     * Set {@link AnimationClock} to drive selection animations of this indicator,
+     * see {@link PageIndicatorDrawable#setAnimationClock(AnimationClock)}.
+     *
+     * @param clock instance of {@link AnimationClock} or null.
+     */
+    public void setAnimationClock(@Nullable AnimationClock clock) {
+        drawable.setAnimationClock(clock);
     }
 
-    private void startScaleAnimation() {
-        animation.scale().with(unselectedColor, selectedColor, radiusPx, scaleFactor).duration(animationDuration).start();
+    /**
+     * Return {@link AnimationClock} driving animations of this indicator, or null if indicator uses own animators.
+     */
+    @Nullable
+    public AnimationClock getAnimationClock() {
+        return drawable.getAnimationClock();
     }
 
-    private void startWormAnimation() {
-        int fromX = getXCoordinate(lastSelectedPosition);
-        int toX = getXCoordinate(selectedPosition);
-        boolean isRightSide = selectedPosition > lastSelectedPosition;
-
-        animation.worm().end();
-        animation.worm().with(fromX, toX, radiusPx, isRightSide).duration(animationDuration).start();
+    /**
+     * Set progress value in range [0 - 1] to specify state of animation while selecting new circle indicator.
+     * (Won't affect on anything unless {@link #setInteractiveAnimation(boolean isInteractive)} is false).
+     *
+     * @param selectingPosition selecting position with specific progress value.
+     * @param progress          float value of progress.
+     */
+    public void setProgress(int selectingPosition, float progress) {
+        drawable.setProgress(selectingPosition, progress);
     }
 
-    private void startSlideAnimation() {
-        int fromX = getXCoordinate(lastSelectedPosition);
-        int toX = getXCoordinate(selectedPosition);
-
-        animation.slide().with(fromX, toX).duration(animationDuration).start();
+    /**
+     * Set specific circle indicator position to be selected. If position < or > total count,
+     * accordingly first or last circle indicator will be selected.
+     *
+     * @param position position of indicator to select.
+     */
+    public void setSelection(int position) {
+        drawable.setSelection(position);
     }
 
-    @Nullable
-    private AbsAnimation getSelectedAnimation() {
-        switch (animationType) {
-            case COLOR:
-                return animation.color().with(unselectedColor, selectedColor);
-
-            case SCALE:
-                return animation.scale().with(unselectedColor, selectedColor, radiusPx, scaleFactor);
-
-            case WORM:
-            case SLIDE:
-                int fromX = getXCoordinate(selectedPosition);
-                int toX = getXCoordinate(selectingPosition);
-
-                if (animationType == AnimationType.WORM) {
-                    boolean isRightSide = selectingPosition > selectedPosition;
-                    return animation.worm().with(fromX, toX, radiusPx, isRightSide);
-
-                } else if (animationType == AnimationType.SLIDE) {
-                    return animation.slide().with(fromX, toX);
-                }
-        }
-
-        return null;
+    /**
+     * Return position of currently selected circle indicator.
+     */
+    public int getSelection() {
+        return drawable.getSelection();
     }
 
-    private int getXCoordinate(int position) {
-        int actualViewWidth = calculateActualViewWidth();
-        int x = (getWidth() - actualViewWidth) / 2;
-
-        if (x < 0) {
-            x = 0;
-        }
+    /**
+     * Apply all attributes of given {@link IndicatorStyle} at once, including selected position.
+     * Same style instance could be shared between any number of indicators,
+     * see {@link IndicatorStyle#obtain(Context, int)}.
+     *
+     * @param style style to apply.
+     */
+    public void setStyle(@NonNull IndicatorStyle style) {
+        drawable.setStyle(style);
+    }
 
-        for (int i = 0; i < count; i++) {
-            x += radiusPx;
-            if (position == i) {
-                return x;
-            }
+    /**
+     * Start batch of configuration changes, see {@link PageIndicatorDrawable#edit()}.
+     */
+    @NonNull
+    public PageIndicatorDrawable.Editor edit() {
+        return drawable.edit();
+    }
 
-            x += radiusPx + paddingPx;
+    /**
+     * Set {@link ViewPager} to add {@link ViewPager.OnPageChangeListener} to automatically
+     * handle selecting new indicators events (and interactive animation effect in case
+     * interactive animation is enabled).
+     *
+     * @param pager instance of {@link ViewPager} to work with
+     */
+    public void setViewPager(@Nullable ViewPager pager) {
+        if (pager != null) {
+            viewPager = pager;
+            viewPager.addOnPageChangeListener(this);
         }
-
-        return x;
     }
 
-    private Pair<Integer, Float> getProgress(int position, float positionOffset) {
-        boolean isRightOverScrolled = position > selectedPosition;
-        boolean isLeftOverScrolled = position + 1 < selectedPosition;
-
-        if (isRightOverScrolled || isLeftOverScrolled) {
-            selectedPosition = position;
+    /**
+     * Release {@link ViewPager} and stop handling events of {@link ViewPager.OnPageChangeListener}.
+     */
+    public void releaseViewPager() {
+        if (viewPager != null) {
+            viewPager.removeOnPageChangeListener(this);
+            viewPager = null;
         }
+    }
 
-        boolean isSlideToRightSide = selectedPosition == position && positionOffset != 0;
-        int selectingPosition;
-        float selectingProgress;
-
-        if (isSlideToRightSide) {
-            selectingPosition = position + 1;
-            selectingProgress = positionOffset;
+    /**
+     * Set {@link ScrollSource} to automatically handle selecting new indicators events
+     * (and interactive animation effect in case interactive animation is enabled),
+     * same as {@link #setViewPager(ViewPager)} does, e.g. {@link RecyclerViewScrollSource}.
+     *
+     * @param source instance of {@link ScrollSource} to work with
+     */
+    public void setScrollSource(@Nullable ScrollSource source) {
+        releaseScrollSource();
 
-        } else {
-            selectingPosition = position;
-            selectingProgress = 1 - positionOffset;
+        if (source != null) {
+            scrollSource = source;
+            scrollSource.attach(scrollListener);
         }
+    }
 
-        if (selectingProgress > 1) {
-            selectingProgress = 1;
-
-        } else if (selectingProgress < 0) {
-            selectingProgress = 0;
+    /**
+     * Release {@link ScrollSource} and stop handling its scroll events.
+     */
+    public void releaseScrollSource() {
+        if (scrollSource != null) {
+            scrollSource.detach();
+            scrollSource = null;
         }
-
-        return new Pair<>(selectingPosition, selectingProgress);
     }
 
-    private int calculateActualViewWidth() {
-        int width = 0;
-        int diameter = radiusPx * 2;
+    private void init(@Nullable AttributeSet attrs) {
+        drawable = new PageIndicatorDrawable();
 
-        for (int i = 0; i < count; i++) {
-            width += diameter;
+        if (attrs != null) {
+            drawable.setStyle(IndicatorStyle.obtain(getContext(), attrs));
+        }
 
-            if (i < count - 1) {
-                width += paddingPx;
-            }
+        if (!isInEditMode()) {
+            drawable.setMotionPolicy(MotionPolicy.getInstance(getContext()));
         }
 
-        return width;
+        drawable.setCallback(this);
+        drawable.setHost(host);
     }
 }
@@ -1,18 +1,23 @@
 package com.rd.animation;
 
 import android.animation.Animator;
-import android.animation.AnimatorSet;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 public abstract class AbsAnimation<T extends Animator> {
 
     public static final int DEFAULT_ANIMATION_TIME = 350;
 
     protected long animationDuration = DEFAULT_ANIMATION_TIME;
-    protected ValueAnimation.UpdateListener listener;
+    protected AnimationUpdateListener listener;
     protected T animator;
 
-    public AbsAnimation(@NonNull ValueAnimation.UpdateListener listener) {
+    //State of animation driven by shared clock
+    protected AnimationClock clock;
+    long clockStartTime;
+    boolean isClockRunning;
+
+    public AbsAnimation(@NonNull AnimationUpdateListener listener) {
         this.listener = listener;
         animator = createAnimator();
     }
@@ -22,30 +27,69 @@ public abstract class AbsAnimation<T extends Animator> {
 
     public abstract AbsAnimation progress(float progress);
 
+    /**
+     * Compute frame of timed animation driven by {@link AnimationClock} for given linear fraction,
+     * following the same curve as own animator does. Interactive progress should use {@link #progress(float)} instead.
+     */
+    void onClockFrame(float fraction) {
+        progress(fraction);
+    }
+
     public AbsAnimation duration(long duration) {
         animationDuration = duration;
+        animator.setDuration(animationDuration);
 
-        if (animator instanceof AnimatorSet) {
-            int size = ((AnimatorSet) animator).getChildAnimations().size();
-            long singleDuration = animationDuration / size;
-            animator.setDuration(singleDuration);
+        return this;
+    }
 
-        } else {
-            animator.setDuration(animationDuration);
+    /**
+     * Set {@link AnimationClock} to drive this animation instead of own animator,
+     * or null to use own animator again.
+     */
+    public AbsAnimation clock(@Nullable AnimationClock clock) {
+        if (this.clock != clock) {
+            if (isRunning()) {
+                end();
+            }
+            this.clock = clock;
         }
 
         return this;
     }
 
     public void start() {
-        if (animator != null) {
+        if (clock != null) {
+            clock.start(this);
+
+        } else if (animator != null) {
             animator.start();
         }
     }
 
     public void end() {
+        if (clock != null) {
+            clock.end(this);
+        }
+
         if (animator != null) {
             animator.end();
         }
     }
+
+    /**
+     * Stop animation at its current frame, without jumping to end values.
+     */
+    public void cancel() {
+        if (clock != null) {
+            clock.cancel(this);
+        }
+
+        if (animator != null) {
+            animator.cancel();
+        }
+    }
+
+    public boolean isRunning() {
+        return isClockRunning || (animator != null && animator.isRunning());
+    }
 }
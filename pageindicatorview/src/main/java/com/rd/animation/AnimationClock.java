@@ -0,0 +1,120 @@
+package com.rd.animation;
+
+import android.animation.ValueAnimator;
+import android.support.annotation.NonNull;
+import android.view.animation.AnimationUtils;
+import android.view.animation.LinearInterpolator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single frame callback shared by any number of {@link AbsAnimation}. Animations driven by clock
+ * don't start own animators: on each frame clock advances every running animation through
+ * {@link AbsAnimation#onClockFrame(float)} in a single pass, following the curve of its own animator, so per frame cost grows only with number
+ * of running animations. Clock ticks only while at least one animation is running.
+ * Should be used from main thread only.
+ */
+public class AnimationClock {
+
+    private static final long TICKER_DURATION = 1000;
+
+    private static AnimationClock instance;
+
+    private List<AbsAnimation> animations = new ArrayList<>();
+    private ValueAnimator ticker;
+
+    /**
+     * Return clock shared by all indicators.
+     */
+    @NonNull
+    public static AnimationClock getInstance() {
+        if (instance == null) {
+            instance = new AnimationClock();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Return number of currently running animations.
+     */
+    public int getRunningCount() {
+        return animations.size();
+    }
+
+    void start(@NonNull AbsAnimation animation) {
+        animation.clockStartTime = AnimationUtils.currentAnimationTimeMillis();
+
+        if (!animation.isClockRunning) {
+            animation.isClockRunning = true;
+            animations.add(animation);
+        }
+
+        animation.onClockFrame(0);
+        startTicker();
+    }
+
+    void end(@NonNull AbsAnimation animation) {
+        if (animation.isClockRunning) {
+            remove(animations.indexOf(animation));
+            animation.onClockFrame(1);
+        }
+    }
+
+    void cancel(@NonNull AbsAnimation animation) {
+        if (animation.isClockRunning) {
+            remove(animations.indexOf(animation));
+        }
+    }
+
+    void tick(long time) {
+        for (int i = animations.size() - 1; i >= 0; i--) {
+            AbsAnimation animation = animations.get(i);
+
+            long duration = animation.animationDuration;
+            float fraction = duration > 0 ? (float) (time - animation.clockStartTime) / duration : 1;
+
+            if (fraction >= 1) {
+                remove(i);
+                animation.onClockFrame(1);
+
+            } else if (fraction > 0) {
+                animation.onClockFrame(fraction);
+            }
+        }
+    }
+
+    private void remove(int index) {
+        AbsAnimation animation = animations.get(index);
+        animation.isClockRunning = false;
+
+        //order of animations doesn't matter, so swap with last one to avoid shifting
+        int last = animations.size() - 1;
+        animations.set(index, animations.get(last));
+        animations.remove(last);
+
+        if (animations.isEmpty() && ticker != null) {
+            ticker.cancel();
+        }
+    }
+
+    private void startTicker() {
+        if (ticker == null) {
+            ticker = ValueAnimator.ofFloat(0, 1);
+            ticker.setDuration(TICKER_DURATION);
+            ticker.setInterpolator(new LinearInterpolator());
+            ticker.setRepeatCount(ValueAnimator.INFINITE);
+            ticker.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+                @Override
+                public void onAnimationUpdate(ValueAnimator animation) {
+                    tick(AnimationUtils.currentAnimationTimeMillis());
+                }
+            });
+        }
+
+        if (!ticker.isStarted()) {
+            ticker.start();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.rd.animation;
+
+/**
+ * Receives frame values computed by animations. Each animation type calls only callback of its own type.
+ */
+public interface AnimationUpdateListener {
+
+    void onColorAnimationUpdated(int color, int colorReverse);
+
+    void onScaleAnimationUpdated(int color, int colorReverse, int radius, int radiusReverse);
+
+    void onWormAnimationUpdated(int leftX, int rightX);
+
+    void onSlideAnimationUpdated(int xCoordinate);
+}
@@ -1,107 +1,110 @@
 package com.rd.animation;
 
-import android.animation.ArgbEvaluator;
-import android.animation.PropertyValuesHolder;
 import android.animation.ValueAnimator;
 import android.support.annotation.NonNull;
 import android.view.animation.DecelerateInterpolator;
+import com.rd.core.ColorBlendTable;
+import com.rd.core.FrameEvaluator;
 
 public class ColorAnimation extends AbsAnimation<ValueAnimator> {
 
-    private static final String ANIMATION_COLOR_REVERSE = "ANIMATION_COLOR_REVERSE";
-    private static final String ANIMATION_COLOR = "ANIMATION_COLOR";
     private static final int ANIMATION_DURATION = 350;
 
     protected int startColor;
     protected int endColor;
 
-    public ColorAnimation(@NonNull ValueAnimation.UpdateListener listener) {
+    protected int colorFrom;
+    protected int colorReverseFrom;
+
+    private ColorBlendTable colorTable = new ColorBlendTable();
+    //Assigned by createAnimator(), called from super constructor, so it has no initializer
+    private DecelerateInterpolator interpolator;
+
+    public ColorAnimation(@NonNull AnimationUpdateListener listener) {
         super(listener);
     }
 
+    /**
+     * Animator is created only once and animates fraction only, while actual colors are resolved
+     * from primitive fields, so changing colors never needs to rebuild animator values.
+     */
     @NonNull
     @Override
     public ValueAnimator createAnimator() {
-        ValueAnimator animator = new ValueAnimator();
+        interpolator = new DecelerateInterpolator();
+
+        ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
         animator.setDuration(ANIMATION_DURATION);
-        animator.setInterpolator(new DecelerateInterpolator());
+        animator.setInterpolator(interpolator);
         animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
             @Override
             public void onAnimationUpdate(ValueAnimator animation) {
-                onAnimateUpdated(animation);
+                onAnimateUpdated(animation.getAnimatedFraction());
             }
         });
 
         return animator;
     }
 
+    /**
+     * Evaluate frame for given progress through the same curve animator uses, without seeking animator.
+     */
     @Override
     public ColorAnimation progress(float progress) {
-        if (animator != null) {
-            long playTime = (long) (progress * animationDuration);
-            animator.setCurrentPlayTime(playTime);
-        }
-
+        onAnimateUpdated(interpolator.getInterpolation(progress));
         return this;
     }
 
     @NonNull
     public ColorAnimation with(int colorStartValue, int colorEndValue) {
-        if (animator != null && hasChanges(colorStartValue, colorEndValue)) {
+        startColor = colorStartValue;
+        endColor = colorEndValue;
 
-            startColor = colorStartValue;
-            endColor = colorEndValue;
+        colorFrom = colorStartValue;
+        colorReverseFrom = colorEndValue;
+        colorTable.build(colorStartValue, colorEndValue);
 
-            PropertyValuesHolder colorHolder = createColorPropertyHolder(false);
-            PropertyValuesHolder reverseColorHolder = createColorPropertyHolder(true);
+        return this;
+    }
 
-            animator.setValues(colorHolder, reverseColorHolder);
-        }
+    /**
+     * Continue animation from current frame values instead of start and end colors.
+     * Should be called after {@link #with(int, int)}.
+     */
+    @NonNull
+    public ColorAnimation from(int color, int colorReverse) {
+        colorFrom = color;
+        colorReverseFrom = colorReverse;
 
         return this;
     }
 
-    protected PropertyValuesHolder createColorPropertyHolder(boolean isReverse) {
-        String propertyName;
-        int startColorValue;
-        int endColorValue;
-
-        if (isReverse) {
-            propertyName = ANIMATION_COLOR_REVERSE;
-            startColorValue = endColor;
-            endColorValue = startColor;
+    protected void onAnimateUpdated(float fraction) {
+        int color = evaluateColor(fraction);
+        int colorReverse = evaluateColorReverse(fraction);
 
-        } else {
-            propertyName = ANIMATION_COLOR;
-            startColorValue = startColor;
-            endColorValue = endColor;
+        if (listener != null) {
+            listener.onColorAnimationUpdated(color, colorReverse);
         }
-
-        PropertyValuesHolder holder = PropertyValuesHolder.ofInt(propertyName, startColorValue, endColorValue);
-        holder.setEvaluator(new ArgbEvaluator());
-
-        return holder;
     }
 
-    @SuppressWarnings("RedundantIfStatement")
-    private boolean hasChanges(int colorStartValue, int colorEndValue) {
-        if (startColor != colorStartValue) {
-            return true;
-        }
-
-        if (endColor != colorEndValue) {
-            return true;
+    /**
+     * Colors are looked up in precomputed blend table, unless animation was retargeted
+     * to start from arbitrary frame colors.
+     */
+    protected int evaluateColor(float fraction) {
+        if (colorFrom == startColor) {
+            return colorTable.getColor(fraction);
         }
 
-        return false;
+        return FrameEvaluator.evaluateColor(fraction, colorFrom, endColor);
     }
 
-    private void onAnimateUpdated(@NonNull ValueAnimator animation) {
-        int color = (int) animation.getAnimatedValue(ANIMATION_COLOR);
-        int colorReverse = (int) animation.getAnimatedValue(ANIMATION_COLOR_REVERSE);
-
-        if (listener != null) {
-            listener.onColorAnimationUpdated(color, colorReverse);
+    protected int evaluateColorReverse(float fraction) {
+        if (colorReverseFrom == endColor) {
+            return colorTable.getReverseColor(fraction);
         }
+
+        return FrameEvaluator.evaluateColor(fraction, colorReverseFrom, startColor);
     }
 }
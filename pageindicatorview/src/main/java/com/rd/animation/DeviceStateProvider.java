@@ -0,0 +1,19 @@
+package com.rd.animation;
+
+/**
+ * Source of device state {@link MotionPolicy} depends on, e.g. {@link SystemDeviceStateProvider}.
+ * Could be replaced to test indicator behaviour under given device state.
+ */
+public interface DeviceStateProvider {
+
+    /**
+     * Return system animator duration scale, which is 0 once animations are removed
+     * by developer options or accessibility settings.
+     */
+    float getAnimatorDurationScale();
+
+    /**
+     * Return true if battery saver is turned on.
+     */
+    boolean isPowerSaveMode();
+}
@@ -0,0 +1,135 @@
+package com.rd.animation;
+
+import android.animation.ValueAnimator;
+import android.support.annotation.NonNull;
+import android.view.animation.LinearInterpolator;
+import com.rd.core.FrameEvaluator;
+
+/**
+ * Alternative to {@link ColorAnimation}, {@link ScaleAnimation}, {@link WormAnimation} and
+ * {@link SlideAnimation}, that drives every animation type with a single {@link ValueAnimator}
+ * and computes color, radius and x coordinates directly from its primitive fraction
+ * with {@link FrameEvaluator}. Values are delivered through the same {@link AnimationUpdateListener}
+ * callbacks, without property name lookups or boxing on each frame. Animator itself runs
+ * with {@link LinearInterpolator}, while animation curve is applied by {@link FrameEvaluator}.
+ */
+public class FrameAnimation extends AbsAnimation<ValueAnimator> {
+
+    private FrameEvaluator evaluator = new FrameEvaluator();
+
+    public FrameAnimation(@NonNull AnimationUpdateListener listener) {
+        super(listener);
+    }
+
+    @NonNull
+    @Override
+    public ValueAnimator createAnimator() {
+        ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+        animator.setDuration(DEFAULT_ANIMATION_TIME);
+        animator.setInterpolator(new LinearInterpolator());
+        animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+            @Override
+            public void onAnimationUpdate(ValueAnimator animation) {
+                onFrame(animation.getAnimatedFraction(), false);
+            }
+        });
+
+        return animator;
+    }
+
+    @Override
+    public FrameAnimation progress(float progress) {
+        onFrame(progress, true);
+        return this;
+    }
+
+    @Override
+    void onClockFrame(float fraction) {
+        onFrame(fraction, false);
+    }
+
+    @NonNull
+    public FrameAnimation color(int colorStartValue, int colorEndValue) {
+        evaluator.color(colorStartValue, colorEndValue);
+        return this;
+    }
+
+    @NonNull
+    public FrameAnimation scale(int colorStartValue, int colorEndValue, int radiusValue, float scaleFactorValue) {
+        evaluator.scale(colorStartValue, colorEndValue, radiusValue, scaleFactorValue);
+        return this;
+    }
+
+    @NonNull
+    public FrameAnimation worm(int fromValue, int toValue, int radiusValue, boolean isRightSide) {
+        evaluator.worm(fromValue, toValue, radiusValue, isRightSide);
+        return this;
+    }
+
+    @NonNull
+    public FrameAnimation slide(int fromValue, int toValue) {
+        evaluator.slide(fromValue, toValue);
+        return this;
+    }
+
+    /**
+     * Continue color animation from current frame values instead of start and end colors.
+     */
+    @NonNull
+    public FrameAnimation colorFrom(int color, int colorReverse) {
+        evaluator.colorFrom(color, colorReverse);
+        return this;
+    }
+
+    /**
+     * Continue scale animation from current frame values instead of start and end states.
+     */
+    @NonNull
+    public FrameAnimation scaleFrom(int color, int colorReverse, int radius, int radiusReverse) {
+        evaluator.scaleFrom(color, colorReverse, radius, radiusReverse);
+        return this;
+    }
+
+    /**
+     * Continue worm animation from current rect edges instead of start circle bounds.
+     */
+    @NonNull
+    public FrameAnimation wormFrom(int leftX, int rightX) {
+        evaluator.wormFrom(leftX, rightX);
+        return this;
+    }
+
+    private void onFrame(float fraction, boolean isProgress) {
+        if (listener == null) {
+            return;
+        }
+
+        if (isProgress) {
+            evaluator.evaluateProgress(fraction);
+        } else {
+            evaluator.evaluate(fraction);
+        }
+
+        switch (evaluator.getType()) {
+            case COLOR:
+                listener.onColorAnimationUpdated(evaluator.getColor(), evaluator.getColorReverse());
+                break;
+
+            case SCALE:
+                listener.onScaleAnimationUpdated(
+                        evaluator.getColor(),
+                        evaluator.getColorReverse(),
+                        evaluator.getRadius(),
+                        evaluator.getRadiusReverse());
+                break;
+
+            case WORM:
+                listener.onWormAnimationUpdated(evaluator.getLeftX(), evaluator.getRightX());
+                break;
+
+            case SLIDE:
+                listener.onSlideAnimationUpdated(evaluator.getXCoordinate());
+                break;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.rd.animation;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+
+/**
+ * Decides whether indicators animate selection changes or switch circles instantly, depending on
+ * device state reported by {@link DeviceStateProvider}. Animations are turned off once system animator
+ * duration scale is 0 (animations removed by accessibility or developer settings) and, unless disabled
+ * with {@link #setInstantInPowerSave(boolean)}, while battery saver is on. Device state is read once and cached
+ * until {@link #refresh()}, so policy could be shared between any number of indicators. Policy returned by
+ * {@link #getInstance(Context)} is refreshed by system broadcasts once device state changes.
+ * Should be used from main thread only.
+ */
+public class MotionPolicy {
+
+    private static MotionPolicy instance;
+
+    private DeviceStateProvider provider;
+    private boolean instantInPowerSave = true;
+
+    //Cached device state
+    private float durationScale = 1;
+    private boolean isPowerSaveMode;
+    private boolean isStateValid;
+
+    public MotionPolicy(@NonNull DeviceStateProvider provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * Return policy following system settings, shared by all indicators.
+     */
+    @NonNull
+    public static MotionPolicy getInstance(@NonNull Context context) {
+        if (instance == null) {
+            SystemDeviceStateProvider provider = new SystemDeviceStateProvider(context);
+            instance = new MotionPolicy(provider);
+            provider.observe(instance);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Set boolean value to switch circles instantly while battery saver is on. Default value is true.
+     *
+     * @param isInstantInPowerSave value of selection changes to be instant in power save mode or not.
+     */
+    public MotionPolicy setInstantInPowerSave(boolean isInstantInPowerSave) {
+        instantInPowerSave = isInstantInPowerSave;
+        return this;
+    }
+
+    /**
+     * Drop cached device state, so it's read again on next query, e.g. once device state changes.
+     */
+    public void refresh() {
+        isStateValid = false;
+    }
+
+    /**
+     * Return true if selection changes should be animated.
+     */
+    public boolean isAnimationEnabled() {
+        updateState();
+        return durationScale > 0 && !(instantInPowerSave && isPowerSaveMode);
+    }
+
+    /**
+     * Return system animator duration scale to apply to animations, which are not driven by
+     * {@link android.animation.ValueAnimator} scaling itself, e.g. ones driven by {@link AnimationClock}.
+     */
+    public float getDurationScale() {
+        updateState();
+        return durationScale;
+    }
+
+    private void updateState() {
+        if (isStateValid) {
+            return;
+        }
+
+        durationScale = provider.getAnimatorDurationScale();
+        isPowerSaveMode = provider.isPowerSaveMode();
+        isStateValid = true;
+    }
+}
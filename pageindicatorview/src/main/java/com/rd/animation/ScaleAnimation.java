@@ -1,10 +1,7 @@
 package com.rd.animation;
 
-import android.animation.IntEvaluator;
-import android.animation.PropertyValuesHolder;
-import android.animation.ValueAnimator;
 import android.support.annotation.NonNull;
-import android.view.animation.DecelerateInterpolator;
+import com.rd.core.FrameEvaluator;
 
 public class ScaleAnimation extends ColorAnimation {
 
@@ -12,111 +9,53 @@ public class ScaleAnimation extends ColorAnimation {
     public static final float MIN_SCALE_FACTOR = 1;
     public static final float MAX_SCALE_FACTOR = 3;
 
-    private static final String ANIMATION_COLOR_REVERSE = "ANIMATION_COLOR_REVERSE";
-    private static final String ANIMATION_COLOR = "ANIMATION_COLOR";
-
-    private static final String ANIMATION_SCALE_REVERSE = "ANIMATION_SCALE_REVERSE";
-    private static final String ANIMATION_SCALE = "ANIMATION_SCALE";
-
-    private static final int ANIMATION_DURATION = 350;
-
     private int radiusPx;
-    private float scaleFactor;
+    private int startRadiusPx;
 
-    public ScaleAnimation(@NonNull ValueAnimation.UpdateListener listener) {
-        super(listener);
-    }
+    private int radiusFrom;
+    private int radiusReverseFrom;
 
-    @NonNull
-    @Override
-    public ValueAnimator createAnimator() {
-        ValueAnimator animator = new ValueAnimator();
-        animator.setDuration(ANIMATION_DURATION);
-        animator.setInterpolator(new DecelerateInterpolator());
-        animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                onAnimateUpdated(animation);
-            }
-        });
-
-        return animator;
+    public ScaleAnimation(@NonNull AnimationUpdateListener listener) {
+        super(listener);
     }
 
     @NonNull
     public ScaleAnimation with(int colorStartValue, int colorEndValue, int radiusValue, float scaleFactorValue) {
-        if (animator != null && hasChanges(colorStartValue, colorEndValue, radiusValue, scaleFactorValue)) {
+        with(colorStartValue, colorEndValue);
 
-            startColor = colorStartValue;
-            endColor = colorEndValue;
-            radiusPx = radiusValue;
-            scaleFactor = scaleFactorValue;
+        radiusPx = radiusValue;
+        startRadiusPx = (int) (radiusValue / scaleFactorValue);
 
-            PropertyValuesHolder colorHolder = createColorPropertyHolder(false);
-            PropertyValuesHolder reverseColorHolder = createColorPropertyHolder(true);
-
-            PropertyValuesHolder scaleHolder = createScalePropertyHolder(false);
-            PropertyValuesHolder scaleReverseHolder = createScalePropertyHolder(true);
-
-            animator.setValues(colorHolder, reverseColorHolder, scaleHolder, scaleReverseHolder);
-        }
+        radiusFrom = startRadiusPx;
+        radiusReverseFrom = radiusPx;
 
         return this;
     }
 
-    private void onAnimateUpdated(@NonNull ValueAnimator animation) {
-        int color = (int) animation.getAnimatedValue(ANIMATION_COLOR);
-        int colorReverse = (int) animation.getAnimatedValue(ANIMATION_COLOR_REVERSE);
-
-        int radius = (int) animation.getAnimatedValue(ANIMATION_SCALE);
-        int radiusReverse = (int) animation.getAnimatedValue(ANIMATION_SCALE_REVERSE);
-
-        if (listener != null) {
-            listener.onScaleAnimationUpdated(color, colorReverse, radius, radiusReverse);
-        }
-    }
-
+    /**
+     * Continue animation from current frame values instead of start and end states.
+     * Should be called after {@link #with(int, int, int, float)}.
+     */
     @NonNull
-    private PropertyValuesHolder createScalePropertyHolder(boolean isReverse) {
-        String propertyName;
-        int startRadiusValue;
-        int endRadiusValue;
-
-        if (isReverse) {
-            propertyName = ANIMATION_SCALE_REVERSE;
-            startRadiusValue = radiusPx;
-            endRadiusValue = (int) (radiusPx / scaleFactor);
-        } else {
-            propertyName = ANIMATION_SCALE;
-            startRadiusValue = (int) (radiusPx / scaleFactor);
-            endRadiusValue = radiusPx;
-        }
+    public ScaleAnimation from(int color, int colorReverse, int radius, int radiusReverse) {
+        from(color, colorReverse);
 
-        PropertyValuesHolder holder = PropertyValuesHolder.ofInt(propertyName, startRadiusValue, endRadiusValue);
-        holder.setEvaluator(new IntEvaluator());
+        radiusFrom = radius;
+        radiusReverseFrom = radiusReverse;
 
-        return holder;
+        return this;
     }
 
-    @SuppressWarnings("RedundantIfStatement")
-    private boolean hasChanges(int colorStartValue, int colorEndValue, int radiusValue, float scaleFactorValue) {
-        if (startColor != colorStartValue) {
-            return true;
-        }
-
-        if (endColor != colorEndValue) {
-            return true;
-        }
+    @Override
+    protected void onAnimateUpdated(float fraction) {
+        int color = evaluateColor(fraction);
+        int colorReverse = evaluateColorReverse(fraction);
 
-        if (radiusPx != radiusValue) {
-            return true;
-        }
+        int radius = FrameEvaluator.evaluateInt(fraction, radiusFrom, radiusPx);
+        int radiusReverse = FrameEvaluator.evaluateInt(fraction, radiusReverseFrom, startRadiusPx);
 
-        if (scaleFactor != scaleFactorValue) {
-            return true;
+        if (listener != null) {
+            listener.onScaleAnimationUpdated(color, colorReverse, radius, radiusReverse);
         }
-
-        return false;
     }
 }
-
@@ -1,88 +1,63 @@
 package com.rd.animation;
 
-import android.animation.IntEvaluator;
-import android.animation.PropertyValuesHolder;
 import android.animation.ValueAnimator;
 import android.support.annotation.NonNull;
 import android.view.animation.DecelerateInterpolator;
+import com.rd.core.FrameEvaluator;
 
 public class SlideAnimation extends AbsAnimation<ValueAnimator> {
 
-    private static final String ANIMATION_X_COORDINATE = "ANIMATION_X_COORDINATE";
     private static final int ANIMATION_DURATION = 350;
 
     private int xStartCoordinate;
     private int xEndCoordinate;
+    //Assigned by createAnimator(), called from super constructor, so it has no initializer
+    private DecelerateInterpolator interpolator;
 
-    public SlideAnimation(@NonNull ValueAnimation.UpdateListener listener) {
+    public SlideAnimation(@NonNull AnimationUpdateListener listener) {
         super(listener);
     }
 
     @NonNull
     @Override
     public ValueAnimator createAnimator() {
-        ValueAnimator animator = new ValueAnimator();
+        interpolator = new DecelerateInterpolator();
+
+        ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
         animator.setDuration(ANIMATION_DURATION);
-        animator.setInterpolator(new DecelerateInterpolator());
+        animator.setInterpolator(interpolator);
         animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
             @Override
             public void onAnimationUpdate(ValueAnimator animation) {
-                onAnimateUpdated(animation);
+                onAnimateUpdated(animation.getAnimatedFraction());
             }
         });
 
         return animator;
     }
 
+    /**
+     * Evaluate frame for given progress through the same curve animator uses, without seeking animator.
+     */
     @Override
     public SlideAnimation progress(float progress) {
-        if (animator != null) {
-            long playTime = (long) (progress * animationDuration);
-            animator.setCurrentPlayTime(playTime);
-        }
-
+        onAnimateUpdated(interpolator.getInterpolation(progress));
         return this;
     }
 
     @NonNull
     public SlideAnimation with(int startValue, int endValue) {
-        if (animator != null && hasChanges(startValue, endValue)) {
-
-            xStartCoordinate = startValue;
-            xEndCoordinate = endValue;
-
-            PropertyValuesHolder holder = createColorPropertyHolder();
-            animator.setValues(holder);
-        }
+        xStartCoordinate = startValue;
+        xEndCoordinate = endValue;
 
         return this;
     }
 
-    private PropertyValuesHolder createColorPropertyHolder() {
-        PropertyValuesHolder holder = PropertyValuesHolder.ofInt(ANIMATION_X_COORDINATE, xStartCoordinate, xEndCoordinate);
-        holder.setEvaluator(new IntEvaluator());
-
-        return holder;
-    }
-
-    private void onAnimateUpdated(@NonNull ValueAnimator animation) {
-        int xCoordinate = (int) animation.getAnimatedValue(ANIMATION_X_COORDINATE);
+    private void onAnimateUpdated(float fraction) {
+        int xCoordinate = FrameEvaluator.evaluateInt(fraction, xStartCoordinate, xEndCoordinate);
 
         if (listener != null) {
             listener.onSlideAnimationUpdated(xCoordinate);
         }
     }
-
-    @SuppressWarnings("RedundantIfStatement")
-    private boolean hasChanges(int startValue, int endValue) {
-        if (xStartCoordinate != startValue) {
-            return true;
-        }
-
-        if (xEndCoordinate != endValue) {
-            return true;
-        }
-
-        return false;
-    }
 }
@@ -0,0 +1,85 @@
+package com.rd.animation;
+
+import android.content.BroadcastReceiver;
+import android.content.ContentResolver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.database.ContentObserver;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.PowerManager;
+import android.provider.Settings;
+import android.support.annotation.NonNull;
+
+/**
+ * {@link DeviceStateProvider} reading global animator duration scale and battery saver state of the system.
+ * Duration scale is available since API 17 and battery saver since API 21, older devices always report
+ * animations enabled at normal speed.
+ */
+public class SystemDeviceStateProvider implements DeviceStateProvider {
+
+    private Context context;
+    private ContentResolver contentResolver;
+    private PowerManager powerManager;
+
+    public SystemDeviceStateProvider(@NonNull Context context) {
+        Context appContext = context.getApplicationContext();
+        if (appContext == null) {
+            appContext = context;
+        }
+
+        this.context = appContext;
+        contentResolver = appContext.getContentResolver();
+        powerManager = (PowerManager) appContext.getSystemService(Context.POWER_SERVICE);
+    }
+
+    @Override
+    public float getAnimatorDurationScale() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR1 || contentResolver == null) {
+            return 1;
+        }
+
+        return Settings.Global.getFloat(contentResolver, Settings.Global.ANIMATOR_DURATION_SCALE, 1);
+    }
+
+    @Override
+    public boolean isPowerSaveMode() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP || powerManager == null) {
+            return false;
+        }
+
+        return powerManager.isPowerSaveMode();
+    }
+
+    /**
+     * Refresh given policy on main thread whenever animator duration scale or battery saver state changes,
+     * so policy never polls system settings itself. Observers stay registered for the lifetime of application.
+     *
+     * @param policy instance of {@link MotionPolicy} reading state from this provider.
+     */
+    public void observe(@NonNull final MotionPolicy policy) {
+        Handler handler = new Handler(Looper.getMainLooper());
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1 && contentResolver != null) {
+            contentResolver.registerContentObserver(
+                    Settings.Global.getUriFor(Settings.Global.ANIMATOR_DURATION_SCALE), false,
+                    new ContentObserver(handler) {
+                        @Override
+                        public void onChange(boolean selfChange) {
+                            policy.refresh();
+                        }
+                    });
+        }
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            context.registerReceiver(new BroadcastReceiver() {
+                @Override
+                public void onReceive(Context context, Intent intent) {
+                    policy.refresh();
+                }
+            }, new IntentFilter(PowerManager.ACTION_POWER_SAVE_MODE_CHANGED), null, handler);
+        }
+    }
+}
@@ -3,34 +3,69 @@ package com.rd.animation;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+/**
+ * Holder of every animation type, each created on first use and delivering its values to the same listener.
+ *
+ * @deprecated indicator effects are now implemented by {@link com.rd.draw.IndicatorAnimator}, which creates
+ * animations it needs itself. Create {@link ColorAnimation}, {@link ScaleAnimation}, {@link WormAnimation},
+ * {@link SlideAnimation} or {@link FrameAnimation} directly with {@link AnimationUpdateListener} instead.
+ */
+@Deprecated
 public class ValueAnimation {
 
     private ColorAnimation colorAnimation;
     private ScaleAnimation scaleAnimation;
     private WormAnimation wormAnimation;
     private SlideAnimation slideAnimation;
+    private FrameAnimation frameAnimation;
 
     private UpdateListener updateListener;
+    private AnimationClock clock;
+
+    /**
+     * @deprecated use {@link AnimationUpdateListener}, which this interface only extends,
+     * so existing implementations can be passed to any animation.
+     */
+    @Deprecated
+    public interface UpdateListener extends AnimationUpdateListener {
+    }
 
-    public interface UpdateListener {
+    public ValueAnimation(@Nullable UpdateListener listener) {
+        updateListener = listener;
+    }
 
-        void onColorAnimationUpdated(int color, int colorReverse);
+    /**
+     * Set {@link AnimationClock} to drive all animations, or null to let each animation use own animator.
+     */
+    public void setClock(@Nullable AnimationClock clock) {
+        this.clock = clock;
 
-        void onScaleAnimationUpdated(int color, int colorReverse, int radius, int radiusReverse);
+        if (colorAnimation != null) {
+            colorAnimation.clock(clock);
+        }
 
-        void onWormAnimationUpdated(int leftX, int rightX);
+        if (scaleAnimation != null) {
+            scaleAnimation.clock(clock);
+        }
 
-        void onSlideAnimationUpdated(int xCoordinate);
-    }
+        if (wormAnimation != null) {
+            wormAnimation.clock(clock);
+        }
 
-    public ValueAnimation(@Nullable UpdateListener listener) {
-        updateListener = listener;
+        if (slideAnimation != null) {
+            slideAnimation.clock(clock);
+        }
+
+        if (frameAnimation != null) {
+            frameAnimation.clock(clock);
+        }
     }
 
     @NonNull
     public ColorAnimation color() {
         if (colorAnimation == null) {
             colorAnimation = new ColorAnimation(updateListener);
+            colorAnimation.clock(clock);
         }
 
         return colorAnimation;
@@ -40,6 +75,7 @@ public class ValueAnimation {
     public ScaleAnimation scale() {
         if (scaleAnimation == null) {
             scaleAnimation = new ScaleAnimation(updateListener);
+            scaleAnimation.clock(clock);
         }
 
         return scaleAnimation;
@@ -49,6 +85,7 @@ public class ValueAnimation {
     public WormAnimation worm() {
         if (wormAnimation == null) {
             wormAnimation = new WormAnimation(updateListener);
+            wormAnimation.clock(clock);
         }
 
         return wormAnimation;
@@ -58,8 +95,19 @@ public class ValueAnimation {
     public SlideAnimation slide() {
         if (slideAnimation == null) {
             slideAnimation = new SlideAnimation(updateListener);
+            slideAnimation.clock(clock);
         }
 
         return slideAnimation;
     }
+
+    @NonNull
+    public FrameAnimation frame() {
+        if (frameAnimation == null) {
+            frameAnimation = new FrameAnimation(updateListener);
+            frameAnimation.clock(clock);
+        }
+
+        return frameAnimation;
+    }
 }
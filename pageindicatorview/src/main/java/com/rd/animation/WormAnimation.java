@@ -1,168 +1,200 @@
 package com.rd.animation;
 
-import android.animation.Animator;
 import android.animation.AnimatorSet;
+import android.animation.TimeInterpolator;
 import android.animation.ValueAnimator;
 import android.support.annotation.NonNull;
+import android.view.animation.AccelerateDecelerateInterpolator;
 import android.view.animation.DecelerateInterpolator;
 
 public class WormAnimation extends AbsAnimation<AnimatorSet> {
 
-    private int fromValue;
-    private int toValue;
-    private int radius;
     private boolean isRightSide;
 
+    private int straightFromX;
+    private int straightToX;
+    private int reverseFromX;
+    private int reverseToX;
+
     private int rectLeftX;
     private int rectRightX;
 
-    public WormAnimation(@NonNull ValueAnimation.UpdateListener listener) {
+    private ValueAnimator straightAnimator;
+    private ValueAnimator reverseAnimator;
+    private DecelerateInterpolator interpolator;
+    //Curve of interactive progress, default one of child animators, as set interpolator is applied only on start
+    private AccelerateDecelerateInterpolator progressInterpolator;
+
+    public WormAnimation(@NonNull AnimationUpdateListener listener) {
         super(listener);
     }
 
+    /**
+     * Animator set and both of its children are created only once. Each child animates
+     * fraction only, while actual coordinates are resolved from primitive fields,
+     * so {@link #with(int, int, int, boolean)} never needs to rebuild animators.
+     */
     @NonNull
     @Override
     public AnimatorSet createAnimator() {
+        interpolator = new DecelerateInterpolator();
+        progressInterpolator = new AccelerateDecelerateInterpolator();
+
+        ValueAnimator.AnimatorUpdateListener updateListener = new ValueAnimator.AnimatorUpdateListener() {
+            @Override
+            public void onAnimationUpdate(ValueAnimator animation) {
+                onAnimateUpdated(animation);
+            }
+        };
+
+        straightAnimator = createValueAnimator(updateListener);
+        reverseAnimator = createValueAnimator(updateListener);
+
         AnimatorSet animator = new AnimatorSet();
-        animator.setInterpolator(new DecelerateInterpolator());
+        animator.setInterpolator(interpolator);
+        animator.playSequentially(straightAnimator, reverseAnimator);
 
         return animator;
     }
 
+    /**
+     * Set duration of each child animator directly: set plays them sequentially, so each takes half of duration.
+     */
+    @Override
+    public WormAnimation duration(long duration) {
+        animationDuration = duration;
+        straightAnimator.setDuration(animationDuration / 2);
+        reverseAnimator.setDuration(animationDuration / 2);
+
+        return this;
+    }
+
     public WormAnimation with(int fromValue, int toValue, int radius, boolean isRightSide) {
-        if (hasChanges(fromValue, toValue, radius, isRightSide)) {
-            animator = createAnimator();
+        this.isRightSide = isRightSide;
 
-            this.fromValue = fromValue;
-            this.toValue = toValue;
-            this.radius = radius;
-            this.isRightSide = isRightSide;
+        if (isRightSide) {
+            straightFromX = fromValue + radius;
+            straightToX = toValue + radius;
 
-            AnimationValues values = createAnimationValues(isRightSide);
-            ValueAnimator straightAnimator = createValueAnimator(values.fromX, values.toX, false);
-            ValueAnimator reverseAnimator = createValueAnimator(values.reverseFromX, values.reverseToX, true);
+            reverseFromX = fromValue - radius;
+            reverseToX = toValue - radius;
 
-            animator.playSequentially(straightAnimator, reverseAnimator);
-        }
-        return this;
-    }
+        } else {
+            straightFromX = fromValue - radius;
+            straightToX = toValue - radius;
 
-    @Override
-    public WormAnimation progress(float progress) {
-        if (animator != null) {
-            long playTimeLeft = (long) (progress * animationDuration);
+            reverseFromX = fromValue + radius;
+            reverseToX = toValue + radius;
+        }
 
-            for (Animator anim : animator.getChildAnimations()) {
-                ValueAnimator animator = (ValueAnimator) anim;
+        rectLeftX = fromValue - radius;
+        rectRightX = fromValue + radius;
 
-                if (playTimeLeft < 0) {
-                    playTimeLeft = 0;
-                }
+        return this;
+    }
 
-                long currPlayTime = playTimeLeft;
-                if (currPlayTime >= animator.getDuration()) {
-                    currPlayTime = animator.getDuration();
-                }
+    /**
+     * Continue animation from current rect edges instead of bounds of start circle.
+     * Should be called after {@link #with(int, int, int, boolean)}.
+     */
+    public WormAnimation from(int leftX, int rightX) {
+        if (isRightSide) {
+            straightFromX = rightX;
+            reverseFromX = leftX;
 
-                animator.setCurrentPlayTime(currPlayTime);
-                playTimeLeft -= currPlayTime;
-            }
+        } else {
+            straightFromX = leftX;
+            reverseFromX = rightX;
         }
 
+        rectLeftX = leftX;
+        rectRightX = rightX;
+
         return this;
     }
 
-    private ValueAnimator createValueAnimator(int fromX, int toX, final boolean isReverseAnimator) {
-        ValueAnimator anim = ValueAnimator.ofInt(fromX, toX);
-        anim.setDuration(animationDuration / 2);
-        anim.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                int value = (int) animation.getAnimatedValue();
-
-                if (!isReverseAnimator) {
-                    if (isRightSide) {
-                        rectRightX = value;
-                    } else {
-                        rectLeftX = value;
-                    }
-
-                } else {
-                    if (isRightSide) {
-                        rectLeftX = value;
-                    } else {
-                        rectRightX = value;
-                    }
-                }
-
-                listener.onWormAnimationUpdated(rectLeftX, rectRightX);
-            }
-        });
+    /**
+     * Resolve both rect edges for given progress directly, without seeking child animators,
+     * so only single {@link AnimationUpdateListener#onWormAnimationUpdated(int, int)} is called.
+     */
+    @Override
+    public WormAnimation progress(float progress) {
+        onFrame(progress, progressInterpolator);
+        return this;
+    }
 
-        return anim;
+    /**
+     * Timed frame follows decelerate curve of child animators instead of interactive one.
+     */
+    @Override
+    void onClockFrame(float fraction) {
+        onFrame(fraction, interpolator);
     }
 
-    @SuppressWarnings("RedundantIfStatement")
-    private boolean hasChanges(int fromValue, int toValue, int radius, boolean isRightSide) {
-        if (this.fromValue != fromValue) {
-            return true;
+    private void onFrame(float progress, @NonNull TimeInterpolator interpolator) {
+        float straightFraction = progress * 2;
+        if (straightFraction > 1) {
+            straightFraction = 1;
+        } else if (straightFraction < 0) {
+            straightFraction = 0;
         }
 
-        if (this.toValue != toValue) {
-            return true;
+        float reverseFraction = progress * 2 - 1;
+        if (reverseFraction < 0) {
+            reverseFraction = 0;
+        } else if (reverseFraction > 1) {
+            reverseFraction = 1;
         }
 
-        if (this.radius != radius) {
-            return true;
-        }
+        setStraightValue(evaluate(interpolator.getInterpolation(straightFraction), straightFromX, straightToX));
+        setReverseValue(evaluate(interpolator.getInterpolation(reverseFraction), reverseFromX, reverseToX));
 
-        if (this.isRightSide != isRightSide) {
-            return true;
+        if (listener != null) {
+            listener.onWormAnimationUpdated(rectLeftX, rectRightX);
         }
-
-        return false;
     }
 
     @NonNull
-    private AnimationValues createAnimationValues(boolean isRightSide) {
-        int fromX;
-        int toX;
-
-        int reverseFromX;
-        int reverseToX;
+    private ValueAnimator createValueAnimator(@NonNull ValueAnimator.AnimatorUpdateListener updateListener) {
+        ValueAnimator anim = ValueAnimator.ofFloat(0, 1);
+        anim.setDuration(animationDuration / 2);
+        anim.setInterpolator(interpolator);
+        anim.addUpdateListener(updateListener);
 
-        if (isRightSide) {
-            fromX = fromValue + radius;
-            toX = toValue + radius;
+        return anim;
+    }
 
-            reverseFromX = fromValue - radius;
-            reverseToX = toValue - radius;
+    private void onAnimateUpdated(@NonNull ValueAnimator animation) {
+        float fraction = animation.getAnimatedFraction();
 
+        if (animation == straightAnimator) {
+            setStraightValue(evaluate(fraction, straightFromX, straightToX));
         } else {
-            fromX = fromValue - radius;
-            toX = toValue - radius;
-
-            reverseFromX = fromValue + radius;
-            reverseToX = toValue + radius;
+            setReverseValue(evaluate(fraction, reverseFromX, reverseToX));
         }
 
-        return new AnimationValues(fromX, toX, reverseFromX, reverseToX);
+        if (listener != null) {
+            listener.onWormAnimationUpdated(rectLeftX, rectRightX);
+        }
     }
 
-    private class AnimationValues {
-
-        public final int fromX;
-        private final int toX;
-
-        private final int reverseFromX;
-        private final int reverseToX;
-
-        public AnimationValues(int fromX, int toX, int reverseFromX, int reverseToX) {
-            this.fromX = fromX;
-            this.toX = toX;
+    private void setStraightValue(int value) {
+        if (isRightSide) {
+            rectRightX = value;
+        } else {
+            rectLeftX = value;
+        }
+    }
 
-            this.reverseFromX = reverseFromX;
-            this.reverseToX = reverseToX;
+    private void setReverseValue(int value) {
+        if (isRightSide) {
+            rectLeftX = value;
+        } else {
+            rectRightX = value;
         }
     }
+
+    private int evaluate(float fraction, int startValue, int endValue) {
+        return (int) (startValue + fraction * (endValue - startValue));
+    }
 }
@@ -0,0 +1,256 @@
+package com.rd.draw;
+
+import android.graphics.Canvas;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import com.rd.animation.AbsAnimation;
+import com.rd.animation.AnimationClock;
+import com.rd.animation.AnimationUpdateListener;
+import com.rd.animation.FrameAnimation;
+
+/**
+ * {@link IndicatorAnimator} driven either by animation of its own type or by shared {@link FrameAnimation}
+ * engine, depending on {@link Indicator#isFrameAnimation()}. Both are created on first use and receive frame
+ * values through {@link AnimationUpdateListener}, so subclass overrides only callback of its own type.
+ * Subclass may also keep trailing circle animated, see {@link #startTrailing(boolean, boolean, int, int)}.
+ *
+ * @param <T> type of animation subclass is driven by.
+ */
+public abstract class BaseIndicatorAnimator<T extends AbsAnimation<?>> implements IndicatorAnimator, AnimationUpdateListener {
+
+    protected Indicator indicator;
+
+    private T animation;
+    private FrameAnimation frameAnimation;
+    private AnimationClock clock;
+
+    //Circle selection moved from before animation was retargeted
+    private int startPosition = NO_POSITION;
+    private int trailingPosition = NO_POSITION;
+    private int frameTrailingColor;
+    private int frameTrailingRadiusPx;
+
+    private T trailingAnimation;
+    private FrameAnimation trailingFrameAnimation;
+    private AnimationUpdateListener trailingListener = new AnimationUpdateListener() {
+        @Override
+        public void onColorAnimationUpdated(int color, int colorReverse) {
+            onTrailingAnimationUpdated(colorReverse, indicator.getRadiusPx());
+        }
+
+        @Override
+        public void onScaleAnimationUpdated(int color, int colorReverse, int radius, int radiusReverse) {
+            onTrailingAnimationUpdated(colorReverse, radiusReverse);
+        }
+
+        @Override
+        public void onWormAnimationUpdated(int leftX, int rightX) {/*empty*/}
+
+        @Override
+        public void onSlideAnimationUpdated(int xCoordinate) {/*empty*/}
+    };
+
+    /**
+     * Create animation of animator type, which delivers its frame values to given listener.
+     */
+    @NonNull
+    protected abstract T createAnimation(@NonNull AnimationUpdateListener listener);
+
+    @Override
+    public void attach(@NonNull Indicator indicator) {
+        this.indicator = indicator;
+    }
+
+    @Override
+    public void setClock(@Nullable AnimationClock clock) {
+        this.clock = clock;
+
+        if (animation != null) {
+            animation.clock(clock);
+        }
+
+        if (frameAnimation != null) {
+            frameAnimation.clock(clock);
+        }
+
+        if (trailingAnimation != null) {
+            trailingAnimation.clock(clock);
+        }
+
+        if (trailingFrameAnimation != null) {
+            trailingFrameAnimation.clock(clock);
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (animation != null) {
+            animation.cancel();
+        }
+
+        if (frameAnimation != null) {
+            frameAnimation.cancel();
+        }
+
+        cancelTrailing();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return (animation != null && animation.isRunning()) || (frameAnimation != null && frameAnimation.isRunning())
+                || (trailingAnimation != null && trailingAnimation.isRunning())
+                || (trailingFrameAnimation != null && trailingFrameAnimation.isRunning());
+    }
+
+    @Override
+    public int getUnselectedRadius() {
+        return indicator.getRadiusPx();
+    }
+
+    @Override
+    public int getFrameLeft() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int getFrameRight() {
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public int getTrailingPosition() {
+        return trailingPosition;
+    }
+
+    @Override
+    public void drawTrailing(@NonNull Canvas canvas, int x, int y) {
+        indicator.getPaint().setColor(frameTrailingColor);
+        indicator.drawDot(canvas, x, y, frameTrailingRadiusPx);
+    }
+
+    @Override
+    public void onColorAnimationUpdated(int color, int colorReverse) {/*empty*/}
+
+    @Override
+    public void onScaleAnimationUpdated(int color, int colorReverse, int radius, int radiusReverse) {/*empty*/}
+
+    @Override
+    public void onWormAnimationUpdated(int leftX, int rightX) {/*empty*/}
+
+    @Override
+    public void onSlideAnimationUpdated(int xCoordinate) {/*empty*/}
+
+    /**
+     * Return animation of animator type, created on first use.
+     */
+    @NonNull
+    protected T animation() {
+        if (animation == null) {
+            animation = createAnimation(this);
+            animation.clock(clock);
+        }
+
+        return animation;
+    }
+
+    /**
+     * Return frame engine, created on first use.
+     */
+    @NonNull
+    protected FrameAnimation frame() {
+        if (frameAnimation == null) {
+            frameAnimation = new FrameAnimation(this);
+            frameAnimation.clock(clock);
+        }
+
+        return frameAnimation;
+    }
+
+    /**
+     * Return animation of animator type for trailing circle, created on first use.
+     * Only reverse values of its frames are used, as frame values of trailing circle.
+     */
+    @NonNull
+    protected T trailingAnimation() {
+        if (trailingAnimation == null) {
+            trailingAnimation = createAnimation(trailingListener);
+            trailingAnimation.clock(clock);
+        }
+
+        return trailingAnimation;
+    }
+
+    /**
+     * Return frame engine for trailing circle, created on first use.
+     */
+    @NonNull
+    protected FrameAnimation trailingFrame() {
+        if (trailingFrameAnimation == null) {
+            trailingFrameAnimation = new FrameAnimation(trailingListener);
+            trailingFrameAnimation.clock(clock);
+        }
+
+        return trailingFrameAnimation;
+    }
+
+    /**
+     * Track circle animation starts from. Once animation is retarget to a new position, circle previous
+     * animation started from is not drawn as reverse one anymore, so it becomes trailing one and should be
+     * animated to unselected state from its current frame values, instead of being snapped to it.
+     * Trailing circle is dropped once it reaches unselected state or is cancelled.
+     * Should be called on each start, before frame values are updated.
+     *
+     * @param color  current color of reverse circle.
+     * @param radius current radius of reverse circle.
+     * @return true if trailing circle should be animated by subclass with {@link #trailingAnimation()}
+     * or {@link #trailingFrame()}, starting from reverse values.
+     */
+    protected boolean startTrailing(boolean isRetarget, boolean isReversed, int color, int radius) {
+        int position = startPosition;
+        startPosition = indicator.getLastSelectedPosition();
+
+        cancelTrailing();
+        if (!isRetarget || isReversed || position == NO_POSITION) {
+            return false;
+        }
+
+        trailingPosition = position;
+        frameTrailingColor = color;
+        frameTrailingRadiusPx = radius;
+        return true;
+    }
+
+    /**
+     * Stop animating trailing circle, so it's drawn with no effect, e.g. once animation is driven by progress.
+     */
+    protected void cancelTrailing() {
+        trailingPosition = NO_POSITION;
+
+        if (trailingAnimation != null) {
+            trailingAnimation.cancel();
+        }
+
+        if (trailingFrameAnimation != null) {
+            trailingFrameAnimation.cancel();
+        }
+    }
+
+    private void onTrailingAnimationUpdated(int color, int radius) {
+        if (trailingPosition == NO_POSITION) {
+            return;
+        }
+
+        boolean isChanged = frameTrailingColor != color || frameTrailingRadiusPx != radius;
+
+        frameTrailingColor = color;
+        frameTrailingRadiusPx = radius;
+
+        //last frame leaves trailing circle unselected, so it's drawn as any other circle again
+        if (color == indicator.getUnselectedColor() && radius == getUnselectedRadius()) {
+            trailingPosition = NO_POSITION;
+            isChanged = true;
+        }
+
+        indicator.onAnimationUpdated(isChanged);
+    }
+}
@@ -0,0 +1,80 @@
+package com.rd.draw;
+
+import android.graphics.Canvas;
+import android.support.annotation.NonNull;
+import com.rd.animation.AnimationUpdateListener;
+import com.rd.animation.ColorAnimation;
+
+/**
+ * Blends color of selected circle into unselected one and vice versa.
+ */
+public class ColorIndicatorAnimator extends BaseIndicatorAnimator<ColorAnimation> {
+
+    private int frameColor;
+    private int frameColorReverse;
+
+    @NonNull
+    @Override
+    protected ColorAnimation createAnimation(@NonNull AnimationUpdateListener listener) {
+        return new ColorAnimation(listener);
+    }
+
+    @Override
+    public void reset() {
+        frameColor = indicator.getSelectedColor();
+        frameColorReverse = indicator.getUnselectedColor();
+        cancelTrailing();
+    }
+
+    @Override
+    public void start(boolean isRetarget, boolean isReversed) {
+        int unselectedColor = indicator.getUnselectedColor();
+        int selectedColor = indicator.getSelectedColor();
+        long duration = indicator.getAnimationDuration();
+
+        if (startTrailing(isRetarget, isReversed, frameColorReverse, indicator.getRadiusPx())) {
+            if (indicator.isFrameAnimation()) {
+                trailingFrame().color(unselectedColor, selectedColor).colorFrom(unselectedColor, frameColorReverse).duration(duration).start();
+            } else {
+                trailingAnimation().with(unselectedColor, selectedColor).from(unselectedColor, frameColorReverse).duration(duration).start();
+            }
+        }
+
+        int color = isReversed ? frameColorReverse : unselectedColor;
+        int colorReverse = isRetarget ? frameColor : selectedColor;
+
+        if (indicator.isFrameAnimation()) {
+            frame().color(unselectedColor, selectedColor).colorFrom(color, colorReverse).duration(duration).start();
+        } else {
+            animation().with(unselectedColor, selectedColor).from(color, colorReverse).duration(duration).start();
+        }
+    }
+
+    @Override
+    public void progress(float progress) {
+        int unselectedColor = indicator.getUnselectedColor();
+        int selectedColor = indicator.getSelectedColor();
+        cancelTrailing();
+
+        if (indicator.isFrameAnimation()) {
+            frame().color(unselectedColor, selectedColor).progress(progress);
+        } else {
+            animation().with(unselectedColor, selectedColor).progress(progress);
+        }
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas, int x, int y, boolean isReverse) {
+        indicator.getPaint().setColor(isReverse ? frameColorReverse : frameColor);
+        indicator.drawDot(canvas, x, y, indicator.getRadiusPx());
+    }
+
+    @Override
+    public void onColorAnimationUpdated(int color, int colorReverse) {
+        boolean isChanged = frameColor != color || frameColorReverse != colorReverse;
+
+        frameColor = color;
+        frameColorReverse = colorReverse;
+        indicator.onAnimationUpdated(isChanged);
+    }
+}
@@ -0,0 +1,118 @@
+package com.rd.draw;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.support.annotation.NonNull;
+
+/**
+ * Circles pre-rasterized at each integer radius of given range into single
+ * {@link Bitmap.Config#ALPHA_8} bitmap, with or without anti-aliasing.
+ * Atlas is rebuilt once anti-aliasing is changed, e.g. by {@link com.rd.metrics.QualityTier#NO_ANTI_ALIAS}. Alpha bitmap is filled with color of paint it's drawn with,
+ * so one atlas serves every color, including blended animation frames, and each dot costs
+ * single bitmap blit instead of circle rasterization.
+ */
+public class DotAtlas {
+
+    //Transparent pixels around each circle to keep anti-aliased edge
+    private static final int MARGIN_PX = 1;
+
+    private Bitmap bitmap;
+    private int minRadius;
+    private int maxRadius;
+    private boolean isAntiAlias;
+    private int[] offsets = new int[0];
+
+    private Rect srcRect = new Rect();
+    private Rect dstRect = new Rect();
+
+    /**
+     * Rasterize circles of every radius in range, unless atlas is already built for the same range and anti-aliasing.
+     *
+     * @param minRadius   min radius in px.
+     * @param maxRadius   max radius in px.
+     * @param isAntiAlias value of circles to be rasterized with anti-aliasing or not.
+     * @return true if atlas is ready to be drawn, false if range is empty.
+     */
+    public boolean prepare(int minRadius, int maxRadius, boolean isAntiAlias) {
+        if (minRadius < 1) {
+            minRadius = 1;
+        }
+
+        if (bitmap != null && this.minRadius == minRadius && this.maxRadius == maxRadius
+                && this.isAntiAlias == isAntiAlias) {
+            return true;
+        }
+
+        release();
+        if (maxRadius < minRadius) {
+            return false;
+        }
+
+        this.minRadius = minRadius;
+        this.maxRadius = maxRadius;
+        this.isAntiAlias = isAntiAlias;
+
+        int size = maxRadius - minRadius + 1;
+        if (offsets.length != size) {
+            offsets = new int[size];
+        }
+
+        int width = 0;
+        for (int i = 0; i < size; i++) {
+            offsets[i] = width;
+            width += getCellSize(minRadius + i);
+        }
+
+        bitmap = Bitmap.createBitmap(width, getCellSize(maxRadius), Bitmap.Config.ALPHA_8);
+        Canvas canvas = new Canvas(bitmap);
+
+        Paint paint = new Paint();
+        paint.setStyle(Paint.Style.FILL);
+        paint.setAntiAlias(isAntiAlias);
+        paint.setColor(Color.BLACK);
+
+        for (int i = 0; i < size; i++) {
+            int radius = minRadius + i;
+            int center = MARGIN_PX + radius;
+            canvas.drawCircle(offsets[i] + center, center, radius, paint);
+        }
+
+        return true;
+    }
+
+    /**
+     * Draw circle of given radius with color of given paint, if radius is within atlas range.
+     *
+     * @return true if circle was drawn, false if it should be drawn other way.
+     */
+    public boolean draw(@NonNull Canvas canvas, int x, int y, int radius, @NonNull Paint paint) {
+        if (bitmap == null || radius < minRadius || radius > maxRadius) {
+            return false;
+        }
+
+        int cellSize = getCellSize(radius);
+        int left = offsets[radius - minRadius];
+        srcRect.set(left, 0, left + cellSize, cellSize);
+
+        int dstLeft = x - radius - MARGIN_PX;
+        int dstTop = y - radius - MARGIN_PX;
+        dstRect.set(dstLeft, dstTop, dstLeft + cellSize, dstTop + cellSize);
+
+        canvas.drawBitmap(bitmap, srcRect, dstRect, paint);
+        return true;
+    }
+
+    public void release() {
+        if (bitmap != null) {
+            bitmap.recycle();
+            bitmap = null;
+        }
+    }
+
+    private int getCellSize(int radius) {
+        return (radius + MARGIN_PX) * 2;
+    }
+}
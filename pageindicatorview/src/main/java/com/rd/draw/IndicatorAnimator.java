@@ -0,0 +1,137 @@
+package com.rd.draw;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import com.rd.animation.AnimationClock;
+
+/**
+ * Selection effect of indicator, which evaluates animation frames and draws animated circles.
+ * Indicator picks its animator once, when animation type is set, and then calls it only for
+ * selected and selecting circles, while the rest of circles are drawn without any effect.
+ * Implementations should not allocate in {@link #progress(float)}, {@link #draw(Canvas, int, int, boolean)}
+ * or on animation frames, as they are called for every frame of every indicator.
+ */
+public interface IndicatorAnimator {
+
+    /**
+     * Returned by {@link #getTrailingPosition()} if there is no trailing circle.
+     */
+    int NO_POSITION = -1;
+
+    /**
+     * Configuration and selection state of indicator, provided to animator by its host.
+     */
+    interface Indicator {
+
+        int getSelectedPosition();
+
+        int getSelectingPosition();
+
+        int getLastSelectedPosition();
+
+        int getXCoordinate(int position);
+
+        int getRadiusPx();
+
+        float getScaleFactor();
+
+        int getUnselectedColor();
+
+        int getSelectedColor();
+
+        long getAnimationDuration();
+
+        boolean isFrameAnimation();
+
+        /**
+         * Return paint animated circles should be drawn with.
+         */
+        @NonNull
+        Paint getPaint();
+
+        /**
+         * Draw circle with current paint color, the same way indicator draws the rest of circles.
+         */
+        void drawDot(@NonNull Canvas canvas, int x, int y, int radius);
+
+        /**
+         * Called on each animation frame, so indicator could invalidate it.
+         *
+         * @param isFrameChanged true if any of frame values was changed by this frame.
+         */
+        void onAnimationUpdated(boolean isFrameChanged);
+    }
+
+    /**
+     * Attach animator to indicator it animates. Called once, before any other method.
+     */
+    void attach(@NonNull Indicator indicator);
+
+    /**
+     * Set {@link AnimationClock} to drive animations, or null to let animator use own animators.
+     */
+    void setClock(@Nullable AnimationClock clock);
+
+    /**
+     * Reset frame values to rest state of current selection, e.g. once configuration is changed.
+     */
+    void reset();
+
+    /**
+     * Start animation from last selected to selected position.
+     *
+     * @param isRetarget true if previous animation is still running and should be continued from its current frame.
+     * @param isReversed true if selection returns to position previous animation started from.
+     */
+    void start(boolean isRetarget, boolean isReversed);
+
+    /**
+     * Set state of interactive animation from selected to selecting position.
+     *
+     * @param progress float value of progress in range [0 - 1].
+     */
+    void progress(float progress);
+
+    /**
+     * Stop animation at its current frame.
+     */
+    void cancel();
+
+    boolean isRunning();
+
+    /**
+     * Return radius circles are drawn with while not animated.
+     */
+    int getUnselectedRadius();
+
+    /**
+     * Return left edge of current frame drawn out of animated circles bounds, or {@link Integer#MAX_VALUE} if there is none.
+     */
+    int getFrameLeft();
+
+    /**
+     * Return right edge of current frame drawn out of animated circles bounds, or {@link Integer#MIN_VALUE} if there is none.
+     */
+    int getFrameRight();
+
+    /**
+     * Draw one of animated circles: selecting or selected one when animation is interactive,
+     * otherwise selected or last selected one.
+     *
+     * @param isReverse true if circle is the one selection moves from.
+     */
+    void draw(@NonNull Canvas canvas, int x, int y, boolean isReverse);
+
+    /**
+     * Return position of circle selection moved from before animation was retargeted to another circle,
+     * while it's still animated back to unselected state, or {@link #NO_POSITION} if there is none.
+     */
+    int getTrailingPosition();
+
+    /**
+     * Draw circle at {@link #getTrailingPosition()}.
+     */
+    void drawTrailing(@NonNull Canvas canvas, int x, int y);
+}
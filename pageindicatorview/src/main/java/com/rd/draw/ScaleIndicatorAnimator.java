@@ -0,0 +1,107 @@
+package com.rd.draw;
+
+import android.graphics.Canvas;
+import android.support.annotation.NonNull;
+import com.rd.animation.AnimationUpdateListener;
+import com.rd.animation.ScaleAnimation;
+
+/**
+ * Scales selected circle down to unselected one and vice versa, blending their colors as well.
+ * Unselected circles are drawn scaled down by {@link Indicator#getScaleFactor()}.
+ */
+public class ScaleIndicatorAnimator extends BaseIndicatorAnimator<ScaleAnimation> {
+
+    private int frameColor;
+    private int frameColorReverse;
+
+    private int frameRadiusPx;
+    private int frameRadiusReversePx;
+
+    @NonNull
+    @Override
+    protected ScaleAnimation createAnimation(@NonNull AnimationUpdateListener listener) {
+        return new ScaleAnimation(listener);
+    }
+
+    @Override
+    public void reset() {
+        frameColor = indicator.getSelectedColor();
+        frameColorReverse = indicator.getUnselectedColor();
+
+        frameRadiusPx = indicator.getRadiusPx();
+        frameRadiusReversePx = indicator.getRadiusPx();
+        cancelTrailing();
+    }
+
+    @Override
+    public void start(boolean isRetarget, boolean isReversed) {
+        int unselectedColor = indicator.getUnselectedColor();
+        int selectedColor = indicator.getSelectedColor();
+        int radiusPx = indicator.getRadiusPx();
+        float scaleFactor = indicator.getScaleFactor();
+        long duration = indicator.getAnimationDuration();
+        int unselectedRadius = getUnselectedRadius();
+
+        if (startTrailing(isRetarget, isReversed, frameColorReverse, frameRadiusReversePx)) {
+            if (indicator.isFrameAnimation()) {
+                trailingFrame().scale(unselectedColor, selectedColor, radiusPx, scaleFactor)
+                        .scaleFrom(unselectedColor, frameColorReverse, unselectedRadius, frameRadiusReversePx).duration(duration).start();
+            } else {
+                trailingAnimation().with(unselectedColor, selectedColor, radiusPx, scaleFactor)
+                        .from(unselectedColor, frameColorReverse, unselectedRadius, frameRadiusReversePx).duration(duration).start();
+            }
+        }
+
+        int color = isReversed ? frameColorReverse : unselectedColor;
+        int colorReverse = isRetarget ? frameColor : selectedColor;
+        int radius = isReversed ? frameRadiusReversePx : unselectedRadius;
+        int radiusReverse = isRetarget ? frameRadiusPx : radiusPx;
+
+        if (indicator.isFrameAnimation()) {
+            frame().scale(unselectedColor, selectedColor, radiusPx, scaleFactor)
+                    .scaleFrom(color, colorReverse, radius, radiusReverse).duration(duration).start();
+        } else {
+            animation().with(unselectedColor, selectedColor, radiusPx, scaleFactor)
+                    .from(color, colorReverse, radius, radiusReverse).duration(duration).start();
+        }
+    }
+
+    @Override
+    public void progress(float progress) {
+        int unselectedColor = indicator.getUnselectedColor();
+        int selectedColor = indicator.getSelectedColor();
+        int radiusPx = indicator.getRadiusPx();
+        float scaleFactor = indicator.getScaleFactor();
+        cancelTrailing();
+
+        if (indicator.isFrameAnimation()) {
+            frame().scale(unselectedColor, selectedColor, radiusPx, scaleFactor).progress(progress);
+        } else {
+            animation().with(unselectedColor, selectedColor, radiusPx, scaleFactor).progress(progress);
+        }
+    }
+
+    @Override
+    public int getUnselectedRadius() {
+        return (int) (indicator.getRadiusPx() / indicator.getScaleFactor());
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas, int x, int y, boolean isReverse) {
+        indicator.getPaint().setColor(isReverse ? frameColorReverse : frameColor);
+        indicator.drawDot(canvas, x, y, isReverse ? frameRadiusReversePx : frameRadiusPx);
+    }
+
+    @Override
+    public void onScaleAnimationUpdated(int color, int colorReverse, int radius, int radiusReverse) {
+        boolean isChanged = frameColor != color || frameColorReverse != colorReverse
+                || frameRadiusPx != radius || frameRadiusReversePx != radiusReverse;
+
+        frameColor = color;
+        frameColorReverse = colorReverse;
+
+        frameRadiusPx = radius;
+        frameRadiusReversePx = radiusReverse;
+        indicator.onAnimationUpdated(isChanged);
+    }
+}
@@ -0,0 +1,82 @@
+package com.rd.draw;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.support.annotation.NonNull;
+import com.rd.animation.AnimationUpdateListener;
+import com.rd.animation.SlideAnimation;
+
+/**
+ * Slides selected circle over unselected ones towards newly selected position.
+ */
+public class SlideIndicatorAnimator extends BaseIndicatorAnimator<SlideAnimation> {
+
+    private int frameXCoordinate;
+
+    @NonNull
+    @Override
+    protected SlideAnimation createAnimation(@NonNull AnimationUpdateListener listener) {
+        return new SlideAnimation(listener);
+    }
+
+    @Override
+    public void reset() {
+        frameXCoordinate = indicator.getXCoordinate(indicator.getSelectedPosition());
+    }
+
+    @Override
+    public void start(boolean isRetarget, boolean isReversed) {
+        long duration = indicator.getAnimationDuration();
+
+        int fromX = isRetarget ? frameXCoordinate : indicator.getXCoordinate(indicator.getLastSelectedPosition());
+        int toX = indicator.getXCoordinate(indicator.getSelectedPosition());
+
+        if (indicator.isFrameAnimation()) {
+            frame().slide(fromX, toX).duration(duration).start();
+        } else {
+            animation().with(fromX, toX).duration(duration).start();
+        }
+    }
+
+    @Override
+    public void progress(float progress) {
+        int fromX = indicator.getXCoordinate(indicator.getSelectedPosition());
+        int toX = indicator.getXCoordinate(indicator.getSelectingPosition());
+
+        if (indicator.isFrameAnimation()) {
+            frame().slide(fromX, toX).progress(progress);
+        } else {
+            animation().with(fromX, toX).progress(progress);
+        }
+    }
+
+    @Override
+    public int getFrameLeft() {
+        return frameXCoordinate - indicator.getRadiusPx();
+    }
+
+    @Override
+    public int getFrameRight() {
+        return frameXCoordinate + indicator.getRadiusPx();
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas, int x, int y, boolean isReverse) {
+        int radiusPx = indicator.getRadiusPx();
+        Paint paint = indicator.getPaint();
+
+        paint.setColor(indicator.getUnselectedColor());
+        indicator.drawDot(canvas, x, y, radiusPx);
+
+        paint.setColor(indicator.getSelectedColor());
+        indicator.drawDot(canvas, frameXCoordinate, y, radiusPx);
+    }
+
+    @Override
+    public void onSlideAnimationUpdated(int xCoordinate) {
+        boolean isChanged = frameXCoordinate != xCoordinate;
+
+        frameXCoordinate = xCoordinate;
+        indicator.onAnimationUpdated(isChanged);
+    }
+}
@@ -0,0 +1,114 @@
+package com.rd.draw;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.support.annotation.NonNull;
+import com.rd.animation.AnimationUpdateListener;
+import com.rd.animation.WormAnimation;
+
+/**
+ * Stretches selected circle into rect towards newly selected position, and then shrinks it back from the other side.
+ */
+public class WormIndicatorAnimator extends BaseIndicatorAnimator<WormAnimation> {
+
+    private int frameLeftX;
+    private int frameRightX;
+
+    private RectF rect = new RectF();
+
+    @NonNull
+    @Override
+    protected WormAnimation createAnimation(@NonNull AnimationUpdateListener listener) {
+        return new WormAnimation(listener);
+    }
+
+    @Override
+    public void reset() {
+        int radiusPx = indicator.getRadiusPx();
+        int xCoordinate = indicator.getXCoordinate(indicator.getSelectedPosition());
+
+        if (xCoordinate - radiusPx >= 0) {
+            frameLeftX = xCoordinate - radiusPx;
+            frameRightX = xCoordinate + radiusPx;
+
+        } else {
+            frameLeftX = xCoordinate;
+            frameRightX = xCoordinate + (radiusPx * 2);
+        }
+    }
+
+    @Override
+    public void start(boolean isRetarget, boolean isReversed) {
+        int radiusPx = indicator.getRadiusPx();
+        long duration = indicator.getAnimationDuration();
+
+        int fromX = indicator.getXCoordinate(indicator.getLastSelectedPosition());
+        int toX = indicator.getXCoordinate(indicator.getSelectedPosition());
+
+        int leftX = isRetarget ? frameLeftX : fromX - radiusPx;
+        int rightX = isRetarget ? frameRightX : fromX + radiusPx;
+        boolean isRightSide = toX > (leftX + rightX) / 2;
+
+        if (indicator.isFrameAnimation()) {
+            frame().worm(fromX, toX, radiusPx, isRightSide).wormFrom(leftX, rightX).duration(duration).start();
+        } else {
+            //animator set is not restarted by start() while running
+            animation().cancel();
+            animation().with(fromX, toX, radiusPx, isRightSide).from(leftX, rightX).duration(duration).start();
+        }
+    }
+
+    @Override
+    public void progress(float progress) {
+        int radiusPx = indicator.getRadiusPx();
+        int selectedPosition = indicator.getSelectedPosition();
+        int selectingPosition = indicator.getSelectingPosition();
+
+        int fromX = indicator.getXCoordinate(selectedPosition);
+        int toX = indicator.getXCoordinate(selectingPosition);
+        boolean isRightSide = selectingPosition > selectedPosition;
+
+        if (indicator.isFrameAnimation()) {
+            frame().worm(fromX, toX, radiusPx, isRightSide).progress(progress);
+        } else {
+            animation().with(fromX, toX, radiusPx, isRightSide).progress(progress);
+        }
+    }
+
+    @Override
+    public int getFrameLeft() {
+        return frameLeftX;
+    }
+
+    @Override
+    public int getFrameRight() {
+        return frameRightX;
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas, int x, int y, boolean isReverse) {
+        int radiusPx = indicator.getRadiusPx();
+        Paint paint = indicator.getPaint();
+
+        rect.left = frameLeftX;
+        rect.right = frameRightX;
+        rect.top = y - radiusPx;
+        rect.bottom = y + radiusPx;
+
+        paint.setColor(indicator.getUnselectedColor());
+        indicator.drawDot(canvas, x, y, radiusPx);
+
+        paint.setColor(indicator.getSelectedColor());
+        canvas.drawRoundRect(rect, radiusPx, radiusPx, paint);
+    }
+
+    @Override
+    public void onWormAnimationUpdated(int leftX, int rightX) {
+        boolean isChanged = frameLeftX != leftX || frameRightX != rightX;
+
+        frameLeftX = leftX;
+        frameRightX = rightX;
+        indicator.onAnimationUpdated(isChanged);
+    }
+}
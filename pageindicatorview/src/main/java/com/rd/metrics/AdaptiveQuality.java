@@ -0,0 +1,160 @@
+package com.rd.metrics;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * Steps indicator down through {@link QualityTier} once its frames repeatedly overrun given budget,
+ * and back up once there is enough headroom again. Cost of each frame is time indicator spent drawing it
+ * plus time spent handling scroll and animation updates since previous frame. Frames are judged
+ * in windows of {@link #WINDOW_FRAMES}: window with {@link #MAX_OVERRUN_FRAMES} or more overruns steps
+ * quality down, while {@link #HEADROOM_WINDOWS} windows in a row with every frame under half of budget
+ * step it up. Work is timed with {@link CostClock} of this instance, {@link CostClock#SYSTEM} by default.
+ * Tracks a single indicator, so instance should not be shared.
+ * Should be accessed from main thread only.
+ */
+public class AdaptiveQuality {
+
+    //Indicator is a small part of every frame, so by default it may take 1/8 of 60 fps frame
+    public static final long DEFAULT_FRAME_BUDGET_NANOS = 2000000;
+
+    public static final int WINDOW_FRAMES = 30;
+    public static final int MAX_OVERRUN_FRAMES = 3;
+    public static final int HEADROOM_WINDOWS = 4;
+
+    public interface OnTierChangedListener {
+
+        /**
+         * Called when quality tier of indicator is changed.
+         *
+         * @param tier         new quality tier.
+         * @param previousTier previous quality tier.
+         */
+        void onTierChanged(@NonNull QualityTier tier, @NonNull QualityTier previousTier);
+    }
+
+    private static final QualityTier[] TIERS = QualityTier.values();
+
+    private long budgetNanos;
+    private CostClock clock;
+    private QualityTier tier = QualityTier.FULL;
+    private OnTierChangedListener listener;
+
+    //Current window
+    private int frames;
+    private int overrunFrames;
+    private boolean hasHeadroom = true;
+    private int headroomWindows;
+
+    public AdaptiveQuality() {
+        this(DEFAULT_FRAME_BUDGET_NANOS);
+    }
+
+    /**
+     * @param budgetNanos time in nanoseconds indicator may spend per frame.
+     */
+    public AdaptiveQuality(long budgetNanos) {
+        this(budgetNanos, CostClock.SYSTEM);
+    }
+
+    /**
+     * @param budgetNanos time in nanoseconds indicator may spend per frame.
+     * @param clock       source of time indicator work is measured with.
+     */
+    public AdaptiveQuality(long budgetNanos, @NonNull CostClock clock) {
+        this.budgetNanos = budgetNanos;
+        this.clock = clock;
+    }
+
+    public void setOnTierChangedListener(@Nullable OnTierChangedListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Return time in nanoseconds indicator may spend per frame.
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Return source of time indicator work is measured with.
+     */
+    @NonNull
+    public CostClock getClock() {
+        return clock;
+    }
+
+    @NonNull
+    public QualityTier getTier() {
+        return tier;
+    }
+
+    /**
+     * Record cost of single frame and step quality tier once window of frames is complete.
+     *
+     * @param costNanos time spent on frame in nanoseconds.
+     * @return true if quality tier was changed.
+     */
+    public boolean onFrame(long costNanos) {
+        frames++;
+
+        if (costNanos > budgetNanos) {
+            overrunFrames++;
+        }
+
+        if (costNanos > budgetNanos / 2) {
+            hasHeadroom = false;
+        }
+
+        if (overrunFrames >= MAX_OVERRUN_FRAMES) {
+            headroomWindows = 0;
+            resetWindow();
+            return setTier(tier.ordinal() + 1);
+        }
+
+        if (frames < WINDOW_FRAMES) {
+            return false;
+        }
+
+        headroomWindows = hasHeadroom ? headroomWindows + 1 : 0;
+        resetWindow();
+
+        if (headroomWindows >= HEADROOM_WINDOWS) {
+            headroomWindows = 0;
+            return setTier(tier.ordinal() - 1);
+        }
+
+        return false;
+    }
+
+    /**
+     * Return indicator to {@link QualityTier#FULL} and drop collected frames.
+     */
+    public void reset() {
+        headroomWindows = 0;
+        resetWindow();
+        setTier(0);
+    }
+
+    private boolean setTier(int index) {
+        if (index < 0 || index >= TIERS.length || TIERS[index] == tier) {
+            return false;
+        }
+
+        QualityTier previousTier = tier;
+        tier = TIERS[index];
+
+        if (listener != null) {
+            listener.onTierChanged(tier, previousTier);
+        }
+
+        return true;
+    }
+
+    private void resetWindow() {
+        frames = 0;
+        overrunFrames = 0;
+        hasHeadroom = true;
+    }
+}
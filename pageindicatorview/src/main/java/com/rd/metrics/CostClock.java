@@ -0,0 +1,20 @@
+package com.rd.metrics;
+
+/**
+ * Source of time indicator work is measured with for {@link AdaptiveQuality}, e.g. {@link #SYSTEM}.
+ * Could be replaced to feed deterministic frame costs in tests.
+ */
+public interface CostClock {
+
+    CostClock SYSTEM = new CostClock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+    };
+
+    /**
+     * Return current time in nanoseconds, meaningful only as difference of two reads.
+     */
+    long nanoTime();
+}
@@ -0,0 +1,125 @@
+package com.rd.metrics;
+
+import android.support.annotation.NonNull;
+import com.rd.core.Histogram;
+
+/**
+ * Performance metrics of {@link com.rd.PageIndicatorView}, aggregated into primitive counters
+ * and histograms, so collecting them never allocates. Could be shared between several indicators
+ * and sampled periodically with {@link #copyTo(IndicatorMetrics)} and {@link #reset()}.
+ * Should be accessed from main thread only.
+ */
+public class IndicatorMetrics {
+
+    private Histogram drawTime = new Histogram();
+    private Histogram inputLatency = new Histogram();
+
+    private long animationUpdates;
+    private long skippedFrames;
+    private long animatorStarts;
+    private long animatorRestarts;
+
+    /**
+     * Record duration of single indicator draw.
+     *
+     * @param durationNanos draw duration in nanoseconds.
+     */
+    public void onFrameDrawn(long durationNanos) {
+        drawTime.record(durationNanos);
+    }
+
+    /**
+     * Record latency between scroll event and the frame, which displays it.
+     *
+     * @param latencyNanos latency in nanoseconds.
+     */
+    public void onInputDrawn(long latencyNanos) {
+        inputLatency.record(latencyNanos);
+    }
+
+    /**
+     * Record animation frame update, delivered to indicator.
+     */
+    public void onAnimationUpdated() {
+        animationUpdates++;
+    }
+
+    /**
+     * Record animation frame update, which was not invalidated as it's drawn exactly
+     * the same as previous frame.
+     */
+    public void onFrameSkipped() {
+        skippedFrames++;
+    }
+
+    /**
+     * Record animator start caused by selection change.
+     *
+     * @param isRestart true if previous animation was still running.
+     */
+    public void onAnimatorStarted(boolean isRestart) {
+        animatorStarts++;
+
+        if (isRestart) {
+            animatorRestarts++;
+        }
+    }
+
+    /**
+     * Return histogram of draw durations in nanoseconds. Number of drawn frames is its count.
+     */
+    @NonNull
+    public Histogram getDrawTime() {
+        return drawTime;
+    }
+
+    /**
+     * Return histogram of latencies in nanoseconds between scroll event and the frame, which displays it.
+     */
+    @NonNull
+    public Histogram getInputLatency() {
+        return inputLatency;
+    }
+
+    public long getAnimationUpdates() {
+        return animationUpdates;
+    }
+
+    /**
+     * Return number of animation updates, which didn't cause invalidation as nothing visible was changed.
+     */
+    public long getSkippedFrames() {
+        return skippedFrames;
+    }
+
+    public long getAnimatorStarts() {
+        return animatorStarts;
+    }
+
+    public long getAnimatorRestarts() {
+        return animatorRestarts;
+    }
+
+    /**
+     * Copy all collected values to given metrics, overriding its own ones.
+     */
+    public void copyTo(@NonNull IndicatorMetrics target) {
+        drawTime.copyTo(target.drawTime);
+        inputLatency.copyTo(target.inputLatency);
+
+        target.animationUpdates = animationUpdates;
+        target.skippedFrames = skippedFrames;
+        target.animatorStarts = animatorStarts;
+        target.animatorRestarts = animatorRestarts;
+    }
+
+    public void reset() {
+        drawTime.reset();
+        inputLatency.reset();
+
+        animationUpdates = 0;
+        skippedFrames = 0;
+        animatorStarts = 0;
+        animatorRestarts = 0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.rd.metrics;
+
+/**
+ * Quality tiers {@link AdaptiveQuality} steps indicator through, ordered from full fidelity down.
+ * Each tier keeps degradations of the tiers above it. Cheap tiers come first, while
+ * {@link #STATIC_LAYER}, which allocates bitmap, is the last resort.
+ */
+public enum QualityTier {
+
+    /**
+     * Indicator is drawn exactly as configured.
+     */
+    FULL,
+
+    /**
+     * Circles are drawn without anti-aliasing.
+     */
+    NO_ANTI_ALIAS,
+
+    /**
+     * {@link com.rd.animation.AnimationType#WORM} falls back to {@link com.rd.animation.AnimationType#SLIDE}
+     * and {@link com.rd.animation.AnimationType#SCALE} to {@link com.rd.animation.AnimationType#COLOR}.
+     */
+    SIMPLE_ANIMATION,
+
+    /**
+     * Animation frames are invalidated at half of display refresh rate, or of max frame rate if it's capped.
+     */
+    HALF_FRAME_RATE,
+
+    /**
+     * Unselected circles are drawn from cached static layer.
+     */
+    STATIC_LAYER
+}
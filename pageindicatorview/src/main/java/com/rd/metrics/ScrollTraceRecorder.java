@@ -0,0 +1,90 @@
+package com.rd.metrics;
+
+import android.support.annotation.NonNull;
+import com.rd.core.ScrollTraceWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Records timestamped scroll events received by {@link com.rd.PageIndicatorView} into compact binary
+ * {@link com.rd.core.ScrollTrace}. Exported trace could be replayed headlessly through the real view with
+ * Robolectric replay harness of the library tests to measure cost of indicator work per event.
+ * Trace never grows beyond its max size: once it's full, further events are dropped until {@link #reset()}.
+ * Should be accessed from main thread only.
+ */
+public class ScrollTraceRecorder {
+
+    //About 2 MB, which holds over an hour of continuous scrolling at 60 events per second
+    public static final int DEFAULT_MAX_SIZE = 2 * 1024 * 1024;
+
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private ScrollTraceWriter writer;
+
+    public ScrollTraceRecorder() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param capacity initial capacity of trace in bytes.
+     */
+    public ScrollTraceRecorder(int capacity) {
+        this(capacity, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param capacity initial capacity of trace in bytes.
+     * @param maxSize  max size of trace in bytes.
+     */
+    public ScrollTraceRecorder(int capacity, int maxSize) {
+        writer = new ScrollTraceWriter(capacity, maxSize);
+    }
+
+    public void onPageScrolled(int position, float positionOffset) {
+        writer.writePageScrolled(System.nanoTime(), position, positionOffset);
+    }
+
+    public void onPageSelected(int position) {
+        writer.writePageSelected(System.nanoTime(), position);
+    }
+
+    public void onPageScrollStateChanged(int state) {
+        writer.writeScrollStateChanged(System.nanoTime(), state);
+    }
+
+    /**
+     * Return size of recorded trace in bytes.
+     */
+    public int getSize() {
+        return writer.getSize();
+    }
+
+    /**
+     * Return true if trace reached its max size, so further events are dropped.
+     */
+    public boolean isFull() {
+        return writer.isFull();
+    }
+
+    /**
+     * Return number of events dropped since trace became full.
+     */
+    public int getDroppedEvents() {
+        return writer.getDroppedEvents();
+    }
+
+    /**
+     * Write recorded trace to given stream, e.g. file to be replayed by library tests.
+     */
+    public void writeTo(@NonNull OutputStream stream) throws IOException {
+        writer.writeTo(stream);
+    }
+
+    /**
+     * Drop all recorded events.
+     */
+    public void reset() {
+        writer.reset();
+    }
+}
@@ -0,0 +1,152 @@
+package com.rd.scroll;
+
+import android.support.annotation.NonNull;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+
+/**
+ * {@link ScrollSource} of {@link RecyclerView} with {@link LinearLayoutManager}, paged by snap helper
+ * or any other way. Scroll offset is accumulated from scroll deltas, so position and offset
+ * are derived in constant time on each scroll event, without looking up child views. Offset is
+ * resolved from layout only when {@link RecyclerView} jumps without scrolling, e.g. after
+ * {@link RecyclerView#scrollToPosition(int)} or data set change. New page is reported
+ * as selected once scroll becomes idle.
+ */
+public class RecyclerViewScrollSource extends RecyclerView.OnScrollListener implements ScrollSource {
+
+    private RecyclerView recyclerView;
+    private Listener listener;
+
+    private int pageSizePx;
+    private int lastPageSizePx;
+
+    private int scrollOffsetPx;
+    private boolean isOffsetValid;
+    private int selectedPosition = RecyclerView.NO_POSITION;
+
+    public RecyclerViewScrollSource(@NonNull RecyclerView recyclerView) {
+        this.recyclerView = recyclerView;
+    }
+
+    /**
+     * Set size of single page in pixels along scroll direction. By default page takes
+     * whole {@link RecyclerView} size without padding.
+     *
+     * @param pageSizePx size of page in pixels or 0 to use default size.
+     */
+    public void setPageSize(int pageSizePx) {
+        this.pageSizePx = pageSizePx;
+        isOffsetValid = false;
+    }
+
+    @Override
+    public void attach(@NonNull Listener listener) {
+        this.listener = listener;
+        isOffsetValid = false;
+        selectedPosition = RecyclerView.NO_POSITION;
+        recyclerView.addOnScrollListener(this);
+    }
+
+    @Override
+    public void detach() {
+        recyclerView.removeOnScrollListener(this);
+        listener = null;
+    }
+
+    @Override
+    public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+        if (dx == 0 && dy == 0) {
+            //layout was changed without scrolling
+            isOffsetValid = false;
+
+        } else if (isOffsetValid) {
+            scrollOffsetPx += isHorizontal() ? dx : dy;
+        }
+
+        int pageSize = getPageSize();
+        if (listener == null || !prepareOffset(pageSize)) {
+            return;
+        }
+
+        int position = scrollOffsetPx / pageSize;
+        float positionOffset = (float) (scrollOffsetPx - position * pageSize) / pageSize;
+        listener.onPageScrolled(position, positionOffset);
+    }
+
+    @Override
+    public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
+        if (newState != RecyclerView.SCROLL_STATE_IDLE) {
+            return;
+        }
+
+        int pageSize = getPageSize();
+        if (listener == null || !prepareOffset(pageSize)) {
+            return;
+        }
+
+        int position = Math.round((float) scrollOffsetPx / pageSize);
+        if (position != selectedPosition) {
+            selectedPosition = position;
+            listener.onPageSelected(position);
+        }
+    }
+
+    private boolean prepareOffset(int pageSize) {
+        if (pageSize <= 0) {
+            return false;
+        }
+
+        if (pageSize != lastPageSizePx) {
+            lastPageSizePx = pageSize;
+            isOffsetValid = false;
+        }
+
+        if (!isOffsetValid) {
+            isOffsetValid = resolveOffset(pageSize);
+        }
+
+        return isOffsetValid;
+    }
+
+    private boolean resolveOffset(int pageSize) {
+        RecyclerView.LayoutManager layoutManager = recyclerView.getLayoutManager();
+        if (!(layoutManager instanceof LinearLayoutManager)) {
+            return false;
+        }
+
+        int position = ((LinearLayoutManager) layoutManager).findFirstVisibleItemPosition();
+        View child = layoutManager.findViewByPosition(position);
+        if (position == RecyclerView.NO_POSITION || child == null) {
+            return false;
+        }
+
+        int childOffset;
+        if (isHorizontal()) {
+            childOffset = layoutManager.getPaddingLeft() - layoutManager.getDecoratedLeft(child);
+        } else {
+            childOffset = layoutManager.getPaddingTop() - layoutManager.getDecoratedTop(child);
+        }
+
+        scrollOffsetPx = Math.max(0, position * pageSize + childOffset);
+        return true;
+    }
+
+    private int getPageSize() {
+        if (pageSizePx > 0) {
+            return pageSizePx;
+        }
+
+        if (isHorizontal()) {
+            return recyclerView.getWidth() - recyclerView.getPaddingLeft() - recyclerView.getPaddingRight();
+        } else {
+            return recyclerView.getHeight() - recyclerView.getPaddingTop() - recyclerView.getPaddingBottom();
+        }
+    }
+
+    private boolean isHorizontal() {
+        RecyclerView.LayoutManager layoutManager = recyclerView.getLayoutManager();
+        return !(layoutManager instanceof LinearLayoutManager)
+                || ((LinearLayoutManager) layoutManager).getOrientation() == LinearLayoutManager.HORIZONTAL;
+    }
+}
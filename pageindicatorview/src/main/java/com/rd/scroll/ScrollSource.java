@@ -0,0 +1,41 @@
+package com.rd.scroll;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Source of paging scroll events, e.g. {@link RecyclerViewScrollSource}. Scroll state is reported
+ * the same way {@link android.support.v4.view.ViewPager.OnPageChangeListener} does, so indicator
+ * handles any source with the same code path as {@link android.support.v4.view.ViewPager}.
+ */
+public interface ScrollSource {
+
+    interface Listener {
+
+        /**
+         * Called when source is scrolled.
+         *
+         * @param position       position of the first page currently being displayed.
+         * @param positionOffset value from [0, 1) indicating offset from the page at position.
+         */
+        void onPageScrolled(int position, float positionOffset);
+
+        /**
+         * Called when new page becomes selected.
+         *
+         * @param position position of the new selected page.
+         */
+        void onPageSelected(int position);
+    }
+
+    /**
+     * Start reporting scroll events to given listener.
+     *
+     * @param listener listener to report scroll events to.
+     */
+    void attach(@NonNull Listener listener);
+
+    /**
+     * Stop reporting scroll events.
+     */
+    void detach();
+}
@@ -0,0 +1,29 @@
+package com.rd.utils;
+
+import android.content.Context;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.view.Display;
+import android.view.View;
+import android.view.WindowManager;
+
+public class DisplayUtils {
+
+    /**
+     * Return refresh rate in frames per second of display given view is shown on,
+     * or of default display if view is not attached yet, or 0 if it's unknown.
+     */
+    public static float getRefreshRate(@NonNull View view) {
+        Display display = null;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            display = view.getDisplay();
+        }
+
+        if (display == null) {
+            WindowManager windowManager = (WindowManager) view.getContext().getSystemService(Context.WINDOW_SERVICE);
+            display = windowManager != null ? windowManager.getDefaultDisplay() : null;
+        }
+
+        return display != null ? display.getRefreshRate() : 0;
+    }
+}
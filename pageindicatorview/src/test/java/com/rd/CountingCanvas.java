@@ -0,0 +1,67 @@
+package com.rd;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * Bitmap backed {@link Canvas} that counts draw calls issued by indicator.
+ * Clip bounds are reported as whole bitmap, as they are not tracked by JVM canvas.
+ */
+class CountingCanvas extends Canvas {
+
+    private int width;
+    private int height;
+    private int drawCalls;
+
+    CountingCanvas(@NonNull Bitmap bitmap) {
+        super(bitmap);
+        width = bitmap.getWidth();
+        height = bitmap.getHeight();
+    }
+
+    @Override
+    public boolean getClipBounds(@Nullable Rect bounds) {
+        if (bounds != null) {
+            bounds.set(0, 0, width, height);
+        }
+
+        return true;
+    }
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, @NonNull Paint paint) {
+        drawCalls++;
+        super.drawCircle(cx, cy, radius, paint);
+    }
+
+    @Override
+    public void drawRoundRect(@NonNull RectF rect, float rx, float ry, @NonNull Paint paint) {
+        drawCalls++;
+        super.drawRoundRect(rect, rx, ry, paint);
+    }
+
+    @Override
+    public void drawBitmap(@NonNull Bitmap bitmap, @Nullable Rect src, @NonNull Rect dst, @Nullable Paint paint) {
+        drawCalls++;
+        super.drawBitmap(bitmap, src, dst, paint);
+    }
+
+    @Override
+    public void drawBitmap(@NonNull Bitmap bitmap, float left, float top, @Nullable Paint paint) {
+        drawCalls++;
+        super.drawBitmap(bitmap, left, top, paint);
+    }
+
+    int getDrawCalls() {
+        return drawCalls;
+    }
+
+    void reset() {
+        drawCalls = 0;
+    }
+}
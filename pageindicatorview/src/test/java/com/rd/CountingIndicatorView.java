@@ -0,0 +1,63 @@
+package com.rd;
+
+import android.content.Context;
+
+/**
+ * {@link PageIndicatorView} that counts invalidate requests, both full and partial ones,
+ * and remembers if it was invalidated since last frame. Drawable invalidates view with its whole bounds,
+ * so invalidation of area covering the whole view counts as full one.
+ */
+class CountingIndicatorView extends PageIndicatorView {
+
+    private int invalidateCalls;
+    private int partialInvalidateCalls;
+    private boolean isInvalidated;
+
+    CountingIndicatorView(Context context) {
+        super(context);
+    }
+
+    @Override
+    public void invalidate() {
+        invalidateCalls++;
+        isInvalidated = true;
+        super.invalidate();
+    }
+
+    @Override
+    public void invalidate(int l, int t, int r, int b) {
+        invalidateCalls++;
+        if (l > 0 || t > 0 || r < getWidth() || b < getHeight()) {
+            partialInvalidateCalls++;
+        }
+
+        isInvalidated = true;
+        super.invalidate(l, t, r, b);
+    }
+
+    int getInvalidateCalls() {
+        return invalidateCalls;
+    }
+
+    int getPartialInvalidateCalls() {
+        return partialInvalidateCalls;
+    }
+
+    int getFullInvalidateCalls() {
+        return invalidateCalls - partialInvalidateCalls;
+    }
+
+    boolean isInvalidated() {
+        return isInvalidated;
+    }
+
+    void onFrameDrawn() {
+        isInvalidated = false;
+    }
+
+    void reset() {
+        invalidateCalls = 0;
+        partialInvalidateCalls = 0;
+        isInvalidated = false;
+    }
+}
@@ -0,0 +1,209 @@
+package com.rd;
+
+import android.app.Activity;
+import android.graphics.Bitmap;
+import android.support.annotation.NonNull;
+import android.view.View;
+import android.view.ViewGroup;
+import com.rd.animation.AnimationType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowChoreographer;
+import org.robolectric.util.Scheduler;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Drives {@link PageIndicatorView} through {@link PageIndicatorView#setSelection(int)},
+ * {@link PageIndicatorView#setProgress(int, float)} and {@link PageIndicatorView#onPageScrolled(int, float, int)}
+ * sequences for each {@link AnimationType} and different circles count.
+ * Main looper tasks are run one by one with animation frame time advanced by
+ * {@link #FRAME_MILLIS} per frame, so running animations produce all their frames.
+ * For every scenario reports draw calls per frame, invalidate calls per input event and wall
+ * time per frame. Wall time is reported only, as it depends on machine running tests.
+ * Checks that selection animates across frames, that scroll events received within one frame
+ * are coalesced into single invalidation and that draw calls per frame are bounded by circles count.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 23, manifest = Config.NONE)
+public class FrameCostBenchmarkTest {
+
+    private static final int[] COUNTS = {3, 10, 100, 1000};
+    private static final int PAGES_TO_SCROLL = 5;
+    private static final int STEPS_PER_PAGE = 10;
+
+    private static final int WIDTH = 1080;
+    private static final long FRAME_MILLIS = 16;
+    private static final int MAX_TASKS = 10000;
+
+    private enum Input {SELECTION, PROGRESS, SCROLL}
+
+    private Activity activity;
+    private Scheduler scheduler;
+
+    @Before
+    public void setUp() {
+        activity = Robolectric.setupActivity(Activity.class);
+        scheduler = Robolectric.getForegroundThreadScheduler();
+        scheduler.pause();
+
+        ShadowChoreographer.setFrameInterval(TimeUnit.MILLISECONDS.toNanos(FRAME_MILLIS));
+    }
+
+    @Test
+    public void frameCost() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("input type count | frames draws/frame invalidates/event us/frame\n");
+
+        for (Input input : Input.values()) {
+            for (AnimationType type : AnimationType.values()) {
+                for (int count : COUNTS) {
+                    builder.append(runScenario(input, type, count)).append('\n');
+                }
+            }
+        }
+
+        System.out.print(builder);
+    }
+
+    @NonNull
+    private String runScenario(@NonNull Input input, @NonNull AnimationType type, int count) {
+        String scenario = String.format(Locale.US, "%s %s %d", input, type, count);
+        boolean interactive = input != Input.SELECTION;
+
+        CountingIndicatorView view = new CountingIndicatorView(activity);
+        view.setCount(count);
+        view.setAnimationType(type);
+        view.setInteractiveAnimation(interactive);
+        view.setScrollCoalescing(input == Input.SCROLL);
+
+        activity.setContentView(view, new ViewGroup.LayoutParams(WIDTH, ViewGroup.LayoutParams.WRAP_CONTENT));
+        view.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+
+        Bitmap bitmap = Bitmap.createBitmap(view.getWidth(), Math.max(view.getHeight(), 1), Bitmap.Config.ARGB_8888);
+        CountingCanvas canvas = new CountingCanvas(bitmap);
+        Frames frames = new Frames(view, canvas);
+
+        frames.runUntilIdle();
+        view.reset();
+        canvas.reset();
+        frames.reset();
+
+        int pages = Math.min(PAGES_TO_SCROLL, count - 1);
+        int events = 0;
+
+        for (int page = 0; page < pages; page++) {
+            switch (input) {
+                case SELECTION:
+                    int framesBefore = frames.drawn;
+                    view.setSelection(page + 1);
+                    events++;
+
+                    frames.runUntilIdle();
+
+                    if (type != AnimationType.NONE) {
+                        assertTrue(scenario + ": selection should animate across frames", frames.drawn - framesBefore > 1);
+                    }
+                    break;
+
+                case PROGRESS:
+                    //progress is set once per frame, as app driving indicator by its own animation would set it
+                    for (int step = 1; step <= STEPS_PER_PAGE; step++) {
+                        view.setProgress(page + 1, (float) step / STEPS_PER_PAGE);
+                        events++;
+
+                        frames.runUntilIdle();
+                    }
+
+                    view.setSelection(page + 1);
+                    events++;
+
+                    frames.runUntilIdle();
+                    break;
+
+                case SCROLL:
+                    //all scroll steps of page arrive before next frame, as fast ViewPager fling would deliver them
+                    int invalidatesBefore = view.getInvalidateCalls();
+                    for (int step = 0; step < STEPS_PER_PAGE; step++) {
+                        view.onPageScrolled(page, (float) step / STEPS_PER_PAGE, 0);
+                        events++;
+                    }
+
+                    frames.runUntilIdle();
+                    assertTrue(scenario + ": scroll events should be coalesced", view.getInvalidateCalls() - invalidatesBefore <= 1);
+
+                    view.onPageScrolled(page + 1, 0, 0);
+                    view.onPageSelected(page + 1);
+                    events += 2;
+
+                    frames.runUntilIdle();
+                    break;
+            }
+
+            assertTrue(scenario + ": draw calls should be bounded by circles count", canvas.getDrawCalls() <= frames.drawn * (count + 2));
+        }
+
+        bitmap.recycle();
+
+        int drawn = frames.drawn;
+        float drawsPerFrame = drawn > 0 ? (float) canvas.getDrawCalls() / drawn : 0;
+        float invalidatesPerEvent = events > 0 ? (float) view.getInvalidateCalls() / events : 0;
+        float microsPerFrame = drawn > 0 ? frames.drawNanos / 1000f / drawn : 0;
+
+        return String.format(Locale.US, "%s | %d %.1f %.2f %.1f",
+                scenario, drawn, drawsPerFrame, invalidatesPerEvent, microsPerFrame);
+    }
+
+    /**
+     * Runs main looper tasks one by one and draws indicator whenever it was invalidated.
+     */
+    private class Frames {
+
+        private CountingIndicatorView view;
+        private CountingCanvas canvas;
+
+        private int drawn;
+        private long drawNanos;
+
+        Frames(@NonNull CountingIndicatorView view, @NonNull CountingCanvas canvas) {
+            this.view = view;
+            this.canvas = canvas;
+        }
+
+        void runUntilIdle() {
+            for (int i = 0; i < MAX_TASKS; i++) {
+                if (view.isInvalidated()) {
+                    view.onFrameDrawn();
+
+                    long start = System.nanoTime();
+                    //JVM view doesn't dispatch onDraw(), so indicator is drawn same way onDraw() does
+                    view.getIndicatorDrawable().draw(canvas);
+                    drawNanos += System.nanoTime() - start;
+                    drawn++;
+                }
+
+                if (!scheduler.runOneTask() && !view.isInvalidated()) {
+                    return;
+                }
+            }
+
+            fail("indicator keeps scheduling work when nothing changes");
+        }
+
+        void reset() {
+            drawn = 0;
+            drawNanos = 0;
+        }
+    }
+}
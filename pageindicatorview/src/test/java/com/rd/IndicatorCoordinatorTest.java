@@ -0,0 +1,69 @@
+package com.rd;
+
+import android.support.v4.view.ViewPager;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 23, manifest = Config.NONE)
+public class IndicatorCoordinatorTest {
+
+    private IndicatorCoordinator coordinator;
+    private PageIndicatorDrawable longIndicator;
+    private PageIndicatorDrawable shortIndicator;
+
+    @Before
+    public void setUp() {
+        coordinator = new IndicatorCoordinator(new ViewPager(RuntimeEnvironment.application));
+
+        longIndicator = createIndicator(5);
+        shortIndicator = createIndicator(3);
+        coordinator.attach(longIndicator);
+        coordinator.attach(shortIndicator);
+    }
+
+    @Test
+    public void selectionOfOneIndicatorIsSetOnAll() {
+        longIndicator.setSelection(3);
+
+        assertEquals(3, longIndicator.getSelection());
+        assertEquals(2, shortIndicator.getSelection());
+
+        //scroll continues from selected position, not from the one coordinator started with
+        coordinator.onPageScrolled(2, 0.5f, 0);
+
+        assertEquals(3, longIndicator.getSelection());
+        assertEquals(2, shortIndicator.getSelection());
+    }
+
+    @Test
+    public void scrollIsClampedByCountOfEachIndicator() {
+        coordinator.setSelection(4);
+        coordinator.onPageScrolled(3, 0, 0);
+
+        assertEquals(3, longIndicator.getSelection());
+        assertEquals(2, shortIndicator.getSelection());
+    }
+
+    @Test
+    public void detachedIndicatorSelectsOnItsOwn() {
+        coordinator.detach(shortIndicator);
+        shortIndicator.setSelection(1);
+
+        assertEquals(0, longIndicator.getSelection());
+        assertEquals(1, shortIndicator.getSelection());
+    }
+
+    private static PageIndicatorDrawable createIndicator(int count) {
+        PageIndicatorDrawable indicator = new PageIndicatorDrawable();
+        indicator.setCount(count);
+        indicator.setInteractiveAnimation(true);
+        return indicator;
+    }
+}
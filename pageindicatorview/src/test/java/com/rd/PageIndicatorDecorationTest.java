@@ -0,0 +1,99 @@
+package com.rd;
+
+import android.graphics.Rect;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+import com.rd.animation.MotionPolicy;
+import com.rd.utils.DensityUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 23, manifest = Config.NONE)
+public class PageIndicatorDecorationTest {
+
+    private RecyclerView recyclerView;
+    private PagesAdapter adapter;
+    private PageIndicatorDecoration decoration;
+
+    @Before
+    public void setUp() {
+        adapter = new PagesAdapter();
+        adapter.count = 3;
+
+        recyclerView = new RecyclerView(RuntimeEnvironment.application);
+        recyclerView.setLayoutManager(new LinearLayoutManager(RuntimeEnvironment.application, LinearLayoutManager.HORIZONTAL, false));
+        recyclerView.setAdapter(adapter);
+
+        decoration = new PageIndicatorDecoration();
+        decoration.attachToRecyclerView(recyclerView);
+    }
+
+    @Test
+    public void countFollowsAdapter() {
+        PageIndicatorDrawable drawable = decoration.getIndicatorDrawable();
+        assertEquals(3, drawable.getCount());
+
+        adapter.count = 5;
+        adapter.notifyItemRangeInserted(3, 2);
+        assertEquals(5, drawable.getCount());
+
+        adapter.count = 1;
+        adapter.notifyDataSetChanged();
+        assertEquals(1, drawable.getCount());
+    }
+
+    @Test
+    public void detachedDecorationIgnoresAdapter() {
+        decoration.attachToRecyclerView(null);
+
+        adapter.count = 7;
+        adapter.notifyDataSetChanged();
+        assertEquals(3, decoration.getIndicatorDrawable().getCount());
+    }
+
+    @Test
+    public void followsSystemMotionPolicy() {
+        assertSame(MotionPolicy.getInstance(RuntimeEnvironment.application),
+                decoration.getIndicatorDrawable().getMotionPolicy());
+    }
+
+    @Test
+    public void boundsFollowLayout() {
+        recyclerView.layout(0, 0, 1000, 500);
+
+        PageIndicatorDrawable drawable = decoration.getIndicatorDrawable();
+        Rect bounds = drawable.getBounds();
+
+        assertEquals(drawable.getIntrinsicWidth(), bounds.width());
+        assertEquals(1000 - bounds.right, bounds.left);
+        assertEquals(500 - DensityUtils.dpToPx(16), bounds.bottom);
+    }
+
+    private static class PagesAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+
+        private int count;
+
+        @Override
+        public RecyclerView.ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+            return new RecyclerView.ViewHolder(new View(parent.getContext())) {};
+        }
+
+        @Override
+        public void onBindViewHolder(RecyclerView.ViewHolder holder, int position) {/*empty*/}
+
+        @Override
+        public int getItemCount() {
+            return count;
+        }
+    }
+}
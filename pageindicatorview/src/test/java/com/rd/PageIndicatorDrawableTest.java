@@ -0,0 +1,379 @@
+package com.rd;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.drawable.Drawable;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import com.rd.animation.AnimationType;
+import com.rd.animation.DeviceStateProvider;
+import com.rd.animation.MotionPolicy;
+import com.rd.metrics.AdaptiveQuality;
+import com.rd.metrics.CostClock;
+import com.rd.metrics.QualityTier;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowChoreographer;
+import org.robolectric.util.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 23, manifest = Config.NONE)
+public class PageIndicatorDrawableTest {
+
+    private PageIndicatorDrawable drawable;
+    private RecordingAnimator animator;
+
+    @Before
+    public void setUp() {
+        animator = new RecordingAnimator();
+
+        drawable = new PageIndicatorDrawable();
+        drawable.setCount(5);
+        drawable.setScrollCoalescing(false);
+        drawable.setIndicatorAnimator(animator);
+    }
+
+    @Test
+    public void reducedMotionMakesSelectionInstant() {
+        drawable.setMotionPolicy(new MotionPolicy(new ReducedMotionProvider()));
+        drawable.setSelection(2);
+
+        assertEquals(2, drawable.getSelection());
+        assertEquals(0, animator.starts);
+    }
+
+    @Test
+    public void reducedMotionCancelsRunningAnimation() {
+        drawable.setSelection(2);
+        drawable.setMotionPolicy(new MotionPolicy(new ReducedMotionProvider()));
+
+        assertFalse(animator.isRunning());
+    }
+
+    @Test
+    public void reducedMotionKeepsInteractiveProgress() {
+        drawable.setInteractiveAnimation(true);
+        drawable.setMotionPolicy(new MotionPolicy(new ReducedMotionProvider()));
+        drawable.onPageScrolled(0, 0.5f);
+
+        assertEquals(0.5f, animator.progress, 0);
+    }
+
+    @Test
+    public void coalescedScrollWithoutCallbackIsHandledRightAway() {
+        drawable.setInteractiveAnimation(true);
+        drawable.setScrollCoalescing(true);
+
+        drawable.onPageScrolled(0, 0.25f);
+        assertEquals(0.25f, animator.progress, 0);
+
+        drawable.onPageScrolled(0, 0.5f);
+        assertEquals(0.5f, animator.progress, 0);
+    }
+
+    @Test
+    public void releaseAppliesPendingScroll() {
+        SchedulingCallback callback = new SchedulingCallback();
+        drawable.setCallback(callback);
+        drawable.setInteractiveAnimation(true);
+        drawable.setScrollCoalescing(true);
+
+        drawable.onPageScrolled(0, 0.5f);
+        assertEquals(1, callback.scheduled);
+        assertEquals(-1f, animator.progress, 0);
+
+        drawable.release();
+        assertEquals(0.5f, animator.progress, 0);
+
+        //next scroll event is coalesced again instead of being dropped
+        drawable.onPageScrolled(0, 0.75f);
+        assertEquals(2, callback.scheduled);
+    }
+
+    @Test
+    public void styleIsSharedUntilChanged() {
+        IndicatorStyle style = new IndicatorStyle.Builder().setRadiusPx(10).build();
+        drawable.setStyle(style);
+
+        assertSame(style, drawable.getStyle());
+
+        drawable.setSelectedColor(Color.RED);
+
+        assertNotSame(style, drawable.getStyle());
+        assertEquals(Color.RED, drawable.getStyle().getSelectedColor());
+        assertEquals(10, drawable.getStyle().getRadiusPx());
+        assertEquals(Color.parseColor(PageIndicatorDrawable.DEFAULT_SELECTED_COLOR), style.getSelectedColor());
+    }
+
+    @Test
+    public void styleFollowsCountAndSelection() {
+        drawable.setCount(8);
+        drawable.setSelection(6);
+
+        assertEquals(8, drawable.getStyle().getCount());
+        assertEquals(6, drawable.getStyle().getSelectedPosition());
+
+        drawable.edit().setSelectedColor(Color.RED).apply();
+
+        assertEquals(8, drawable.getCount());
+        assertEquals(6, drawable.getSelection());
+    }
+
+    @Test
+    public void qualityTierIsAppliedOnNextFrame() {
+        SchedulingCallback callback = new SchedulingCallback();
+        drawable.setCallback(callback);
+        drawable.setBounds(0, 0, drawable.getIntrinsicWidth(), drawable.getIntrinsicHeight());
+
+        //every frame overruns negative budget
+        AdaptiveQuality quality = new AdaptiveQuality(-1);
+        drawable.setAdaptiveQuality(quality);
+
+        Canvas canvas = new Canvas(Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888));
+        for (int i = 0; i < AdaptiveQuality.MAX_OVERRUN_FRAMES; i++) {
+            drawable.draw(canvas);
+        }
+
+        assertEquals(QualityTier.NO_ANTI_ALIAS, quality.getTier());
+        assertTrue(animator.indicator.getPaint().isAntiAlias());
+        assertEquals(1, callback.scheduled);
+
+        callback.what.run();
+
+        assertFalse(animator.indicator.getPaint().isAntiAlias());
+    }
+
+    @Test
+    public void timedAnimationUpdatesCountTowardsFrameCost() {
+        drawable.setCallback(new SchedulingCallback());
+        drawable.setBounds(0, 0, drawable.getIntrinsicWidth(), drawable.getIntrinsicHeight());
+
+        //each invalidation of animation frame takes longer than whole frame budget, while drawing takes no time
+        FakeClock clock = new FakeClock();
+        RecordingHost host = new RecordingHost();
+        host.clock = clock;
+        host.invalidateCostNanos = AdaptiveQuality.DEFAULT_FRAME_BUDGET_NANOS + 1;
+        drawable.setHost(host);
+
+        AdaptiveQuality quality = new AdaptiveQuality(AdaptiveQuality.DEFAULT_FRAME_BUDGET_NANOS, clock);
+        drawable.setAdaptiveQuality(quality);
+
+        Canvas canvas = new Canvas(Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888));
+        drawable.setSelection(2);
+        for (int i = 0; i < AdaptiveQuality.MAX_OVERRUN_FRAMES; i++) {
+            animator.indicator.onAnimationUpdated(true);
+            drawable.draw(canvas);
+        }
+
+        assertEquals(QualityTier.NO_ANTI_ALIAS, quality.getTier());
+    }
+
+    @Test
+    public void halfFrameRateFollowsDisplayRefreshRate() {
+        SchedulingCallback callback = new SchedulingCallback();
+        drawable.setCallback(callback);
+        drawable.setBounds(0, 0, drawable.getIntrinsicWidth(), drawable.getIntrinsicHeight());
+
+        RecordingHost host = new RecordingHost();
+        host.refreshRate = 120;
+        drawable.setHost(host);
+
+        //every frame overruns negative budget, so quality steps down till half frame rate
+        AdaptiveQuality quality = new AdaptiveQuality(-1);
+        drawable.setAdaptiveQuality(quality);
+
+        Canvas canvas = new Canvas(Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888));
+        while (quality.getTier() != QualityTier.HALF_FRAME_RATE) {
+            drawable.draw(canvas);
+        }
+        callback.what.run();
+
+        Robolectric.getForegroundThreadScheduler().advanceBy(1000);
+        drawable.setSelection(2);
+        animator.indicator.onAnimationUpdated(true);
+        animator.indicator.onAnimationUpdated(true);
+
+        //next frame is postponed by 60 fps frame time instead of 30 fps one of 60 Hz display
+        assertEquals(SystemClock.uptimeMillis() + 1000 / 60 - 2, callback.when);
+    }
+
+    @Test
+    public void editAppliesBatchOnce() {
+        SchedulingCallback callback = new SchedulingCallback();
+        drawable.setCallback(callback);
+        RecordingHost host = new RecordingHost();
+        drawable.setHost(host);
+
+        drawable.setSelection(2);
+        IndicatorStyle style = drawable.getStyle();
+        callback.invalidated = 0;
+
+        PageIndicatorDrawable.Editor editor = drawable.edit()
+                .setCount(7)
+                .setRadius(10)
+                .setPadding(4)
+                .setSelectedColor(Color.RED)
+                .setAnimationType(AnimationType.WORM);
+
+        assertSame(style, drawable.getStyle());
+        assertEquals(5, drawable.getCount());
+        assertTrue(animator.isRunning());
+        assertEquals(0, callback.invalidated);
+
+        editor.apply();
+
+        assertEquals(7, drawable.getCount());
+        assertEquals(Color.RED, drawable.getStyle().getSelectedColor());
+        assertEquals(AnimationType.WORM, drawable.getStyle().getAnimationType());
+        assertFalse(animator.isRunning());
+        assertEquals(1, callback.invalidated);
+        assertEquals(1, host.sizeChanges);
+    }
+
+    @Test
+    public void finishedTrailingCircleLeavesFrame() {
+        Scheduler scheduler = Robolectric.getForegroundThreadScheduler();
+        scheduler.pause();
+        ShadowChoreographer.setFrameInterval(TimeUnit.MILLISECONDS.toNanos(16));
+
+        RecordingHost retargeted = selectAfterTrailing(scheduler, true);
+        RecordingHost direct = selectAfterTrailing(scheduler, false);
+
+        //once trailing circle is unselected, it neither widens dirty span nor splits static layer
+        assertEquals(direct.dirtyLeft, retargeted.dirtyLeft);
+        assertEquals(direct.dirtyRight, retargeted.dirtyRight);
+        assertEquals(direct.drawCalls, retargeted.drawCalls);
+    }
+
+    /**
+     * Select circle 1 and then circle 2, either once circle 1 is selected or by retargeting its selection, so circle 0 trails,
+     * let animations finish, then select circle 3 and record its invalidations and draw calls.
+     */
+    @NonNull
+    private RecordingHost selectAfterTrailing(@NonNull Scheduler scheduler, boolean isRetarget) {
+        PageIndicatorDrawable drawable = new PageIndicatorDrawable();
+        drawable.setCount(5);
+        drawable.setAnimationType(AnimationType.COLOR);
+        drawable.setStaticLayer(true);
+        drawable.setBounds(0, 0, drawable.getIntrinsicWidth(), drawable.getIntrinsicHeight());
+
+        RecordingHost host = new RecordingHost();
+        drawable.setHost(host);
+
+        CountingCanvas canvas = new CountingCanvas(Bitmap.createBitmap(
+                drawable.getIntrinsicWidth(), drawable.getIntrinsicHeight(), Bitmap.Config.ARGB_8888));
+
+        drawable.setSelection(1);
+        runFrames(scheduler, drawable, canvas, isRetarget ? 3 : Integer.MAX_VALUE);
+
+        drawable.setSelection(2);
+        runFrames(scheduler, drawable, canvas, Integer.MAX_VALUE);
+
+        host.dirtyLeft = Integer.MAX_VALUE;
+        host.dirtyRight = Integer.MIN_VALUE;
+        drawable.setSelection(3);
+        runFrames(scheduler, drawable, canvas, Integer.MAX_VALUE);
+
+        canvas.reset();
+        drawable.draw(canvas);
+        host.drawCalls = canvas.getDrawCalls();
+        return host;
+    }
+
+    private void runFrames(@NonNull Scheduler scheduler, @NonNull PageIndicatorDrawable drawable,
+                           @NonNull CountingCanvas canvas, int frames) {
+        for (int i = 0; i < frames && scheduler.runOneTask(); i++) {
+            drawable.draw(canvas);
+        }
+    }
+
+    private static class RecordingHost implements PageIndicatorDrawable.Host {
+
+        private int dirtyLeft = Integer.MAX_VALUE;
+        private int dirtyRight = Integer.MIN_VALUE;
+        private int drawCalls;
+        private int sizeChanges;
+        private FakeClock clock;
+        private long invalidateCostNanos;
+        private float refreshRate;
+
+        @Override
+        public void invalidateIndicator(int left, int top, int right, int bottom) {
+            if (clock != null) {
+                clock.nanos += invalidateCostNanos;
+            }
+
+            dirtyLeft = Math.min(dirtyLeft, left);
+            dirtyRight = Math.max(dirtyRight, right);
+        }
+
+        @Override
+        public void onIndicatorSizeChanged() {
+            sizeChanges++;
+        }
+
+        @Override
+        public float getRefreshRate() {
+            return refreshRate;
+        }
+    }
+
+    private static class FakeClock implements CostClock {
+
+        private long nanos;
+
+        @Override
+        public long nanoTime() {
+            return nanos;
+        }
+    }
+
+    private static class SchedulingCallback implements Drawable.Callback {
+
+        private int scheduled;
+        private Runnable what;
+        private long when;
+        private int invalidated;
+
+        @Override
+        public void invalidateDrawable(@NonNull Drawable who) {
+            invalidated++;
+        }
+
+        @Override
+        public void scheduleDrawable(@NonNull Drawable who, @NonNull Runnable what, long when) {
+            scheduled++;
+            this.what = what;
+            this.when = when;
+        }
+
+        @Override
+        public void unscheduleDrawable(@NonNull Drawable who, @NonNull Runnable what) {/*empty*/}
+    }
+
+    private static class ReducedMotionProvider implements DeviceStateProvider {
+
+        @Override
+        public float getAnimatorDurationScale() {
+            return 0;
+        }
+
+        @Override
+        public boolean isPowerSaveMode() {
+            return false;
+        }
+    }
+}
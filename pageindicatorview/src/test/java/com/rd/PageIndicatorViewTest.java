@@ -0,0 +1,54 @@
+package com.rd;
+
+import android.view.View;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 23, manifest = Config.NONE)
+public class PageIndicatorViewTest {
+
+    private PageIndicatorView view;
+
+    @Before
+    public void setUp() {
+        view = new PageIndicatorView(RuntimeEnvironment.application);
+        view.setCount(3);
+    }
+
+    @Test
+    public void sizeChangeRequestsLayout() {
+        layout(View.MeasureSpec.makeMeasureSpec(1000, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(100, View.MeasureSpec.EXACTLY));
+        assertFalse(view.isLayoutRequested());
+
+        view.setCount(10);
+        assertTrue(view.isLayoutRequested());
+    }
+
+    @Test
+    public void measuresDesiredSize() {
+        int unspecified = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        layout(unspecified, unspecified);
+        int width = view.getMeasuredWidth();
+
+        view.setCount(10);
+        layout(unspecified, unspecified);
+
+        assertTrue(view.getMeasuredWidth() > width);
+        assertEquals(view.getIndicatorDrawable().getIntrinsicWidth(), view.getMeasuredWidth());
+    }
+
+    private void layout(int widthMeasureSpec, int heightMeasureSpec) {
+        view.measure(widthMeasureSpec, heightMeasureSpec);
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+    }
+}
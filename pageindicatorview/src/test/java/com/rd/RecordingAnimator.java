@@ -0,0 +1,81 @@
+package com.rd;
+
+import android.graphics.Canvas;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import com.rd.animation.AnimationClock;
+import com.rd.draw.IndicatorAnimator;
+
+/**
+ * {@link IndicatorAnimator} that only records calls made by indicator. Started animation keeps
+ * running until it's cancelled.
+ */
+class RecordingAnimator implements IndicatorAnimator {
+
+    int starts;
+    boolean isRetarget;
+    boolean isReversed;
+    float progress = -1;
+    boolean isRunning;
+    Indicator indicator;
+
+    @Override
+    public void attach(@NonNull Indicator indicator) {
+        this.indicator = indicator;
+    }
+
+    @Override
+    public void setClock(@Nullable AnimationClock clock) {/*empty*/}
+
+    @Override
+    public void reset() {/*empty*/}
+
+    @Override
+    public void start(boolean isRetarget, boolean isReversed) {
+        starts++;
+        this.isRetarget = isRetarget;
+        this.isReversed = isReversed;
+        isRunning = true;
+    }
+
+    @Override
+    public void progress(float progress) {
+        this.progress = progress;
+    }
+
+    @Override
+    public void cancel() {
+        isRunning = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    @Override
+    public int getUnselectedRadius() {
+        return 0;
+    }
+
+    @Override
+    public int getFrameLeft() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int getFrameRight() {
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas, int x, int y, boolean isReverse) {/*empty*/}
+
+    @Override
+    public int getTrailingPosition() {
+        return NO_POSITION;
+    }
+
+    @Override
+    public void drawTrailing(@NonNull Canvas canvas, int x, int y) {/*empty*/}
+}
@@ -0,0 +1,121 @@
+package com.rd;
+
+import android.graphics.drawable.Drawable;
+import com.rd.animation.AnimationType;
+import com.rd.animation.MotionPolicy;
+import com.rd.core.AllocationCounter;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+import org.robolectric.annotation.RealObject;
+import org.robolectric.shadows.ShadowDrawable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Scrolls {@link PageIndicatorDrawable} over several pages for each {@link AnimationType}
+ * and checks that, once warmed up, its scroll path from {@link PageIndicatorDrawable#onPageScrolled(int, float)}
+ * down to animation frame values doesn't allocate. Allocated bytes are raw difference of thread counter.
+ * Drawable follows default system {@link MotionPolicy}, the same way {@link PageIndicatorView} does,
+ * and its cached state is dropped before measured scroll, so reading device state on scroll is caught.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 23, manifest = Config.NONE, shadows = ScrollAllocationTest.CallbackShadowDrawable.class)
+public class ScrollAllocationTest {
+
+    private static final int COUNT = 100;
+    private static final int PAGES = 10;
+    private static final int STEPS_PER_PAGE = 20;
+    private static final int WARMUP_ITERATIONS = 200;
+
+    private AllocationCounter counter;
+
+    @Before
+    public void setUp() {
+        counter = new AllocationCounter();
+        assumeTrue(counter.isSupported());
+    }
+
+    @Test
+    public void scrollDoesNotAllocate() {
+        for (AnimationType type : AnimationType.values()) {
+            assertNoAllocations(type, 0);
+        }
+    }
+
+    @Test
+    public void windowedScrollDoesNotAllocate() {
+        for (AnimationType type : AnimationType.values()) {
+            assertNoAllocations(type, 5);
+        }
+    }
+
+    private void assertNoAllocations(AnimationType type, int maxVisibleCount) {
+        PageIndicatorDrawable drawable = new PageIndicatorDrawable();
+        drawable.setCount(COUNT);
+        drawable.setMaxVisibleCount(maxVisibleCount);
+        drawable.setAnimationType(type);
+        drawable.setInteractiveAnimation(true);
+        drawable.setScrollCoalescing(false);
+
+        MotionPolicy policy = MotionPolicy.getInstance(RuntimeEnvironment.application);
+        drawable.setMotionPolicy(policy);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            scroll(drawable);
+        }
+
+        policy.refresh();
+
+        long startBytes = counter.getAllocatedBytes();
+        scroll(drawable);
+        long endBytes = counter.getAllocatedBytes();
+
+        assertEquals(type + " bytes allocated by scroll events", 0, endBytes - startBytes);
+    }
+
+    /**
+     * Scroll forward page by page and then back.
+     */
+    private void scroll(PageIndicatorDrawable drawable) {
+        for (int page = 0; page < PAGES; page++) {
+            for (int step = 0; step < STEPS_PER_PAGE; step++) {
+                drawable.onPageScrolled(page, (float) step / STEPS_PER_PAGE);
+            }
+            drawable.onPageSelected(page + 1);
+        }
+
+        for (int page = PAGES - 1; page >= 0; page--) {
+            for (int step = STEPS_PER_PAGE; step > 0; step--) {
+                drawable.onPageScrolled(page, (float) step / STEPS_PER_PAGE);
+            }
+            drawable.onPageSelected(page);
+        }
+    }
+
+    /**
+     * Default shadow calls real invalidateSelf() through reflection, allocating on every call,
+     * so it's replaced with the same callback dispatch platform does.
+     */
+    @Implements(Drawable.class)
+    public static class CallbackShadowDrawable extends ShadowDrawable {
+
+        @RealObject
+        private Drawable drawable;
+
+        @Override
+        @Implementation
+        public void invalidateSelf() {
+            Drawable.Callback callback = drawable.getCallback();
+            if (callback != null) {
+                callback.invalidateDrawable(drawable);
+            }
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.rd;
+
+import android.app.Activity;
+import android.graphics.Bitmap;
+import android.support.annotation.NonNull;
+import android.view.View;
+import android.view.ViewGroup;
+import com.rd.animation.AnimationType;
+import com.rd.core.AllocationCounter;
+import com.rd.core.Histogram;
+import com.rd.core.ScrollTrace;
+import com.rd.core.ScrollTraceReader;
+import com.rd.metrics.AdaptiveQuality;
+import com.rd.metrics.IndicatorMetrics;
+import com.rd.metrics.QualityTier;
+import org.robolectric.Robolectric;
+import org.robolectric.shadows.ShadowChoreographer;
+import org.robolectric.util.Scheduler;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays recorded {@link ScrollTrace} headlessly through real {@link PageIndicatorView} under Robolectric:
+ * each event is delivered to {@link PageIndicatorView#onPageScrolled(int, float, int)},
+ * {@link PageIndicatorView#onPageSelected(int)} or {@link PageIndicatorView#onPageScrollStateChanged(int)},
+ * while main looper time follows event timestamps, so scroll coalescing, frame rate cap, quality tiers and
+ * animations run as they do on device. Indicator is drawn into {@link CountingCanvas} whenever it was invalidated.
+ * For each trace reports per event cost, covering the event and all indicator work until the next one,
+ * allocated bytes, full, partial and skipped invalidations, drawn frames, draw calls and number of scroll gestures.
+ * Allocated bytes are raw difference of thread counter, so they include main looper scheduling done on behalf of indicator.
+ * Trace is replayed several times first, so measured pass runs compiled code.
+ */
+class ScrollTraceReplay {
+
+    private static final int WIDTH = 1080;
+    private static final long FRAME_MILLIS = 16;
+    private static final int MAX_TASKS = 100000;
+
+    private static final int DEFAULT_COUNT = 10;
+    private static final int DEFAULT_WARMUP_ITERATIONS = 20;
+
+    private Activity activity;
+    private Scheduler scheduler;
+
+    private IndicatorStyle style = new IndicatorStyle.Builder()
+            .setCount(DEFAULT_COUNT)
+            .setAnimationType(AnimationType.WORM)
+            .setInteractiveAnimation(true)
+            .setScrollCoalescing(true)
+            .build();
+    private boolean isAdaptiveQuality;
+    private int warmupIterations = DEFAULT_WARMUP_ITERATIONS;
+
+    //Indicator of current pass
+    private CountingIndicatorView view;
+    private CountingCanvas canvas;
+    private int drawnFrames;
+    private int scrollState;
+
+    //Results of measured pass
+    private Histogram eventNanos = new Histogram();
+    private long eventCount;
+    private long scrollEventCount;
+    private long fullInvalidations;
+    private long partialInvalidations;
+    private long skippedFrames;
+    private long frames;
+    private long drawCalls;
+    private long animatorRestarts;
+    private long scrollStateChanges;
+    private long gestures;
+    private long allocatedBytes = -1;
+    private long traceDurationNanos;
+    private QualityTier tier = QualityTier.FULL;
+
+    /**
+     * @param activity activity to host replayed indicator.
+     */
+    ScrollTraceReplay(@NonNull Activity activity) {
+        this.activity = activity;
+
+        scheduler = Robolectric.getForegroundThreadScheduler();
+        scheduler.pause();
+        ShadowChoreographer.setFrameInterval(TimeUnit.MILLISECONDS.toNanos(FRAME_MILLIS));
+    }
+
+    /**
+     * Set attributes of replayed indicator, including count and animation type.
+     */
+    void setStyle(@NonNull IndicatorStyle style) {
+        this.style = style;
+    }
+
+    /**
+     * Set boolean value to adapt quality of replayed indicator with default {@link AdaptiveQuality}.
+     */
+    void setAdaptiveQuality(boolean isAdaptiveQuality) {
+        this.isAdaptiveQuality = isAdaptiveQuality;
+    }
+
+    void setWarmupIterations(int warmupIterations) {
+        this.warmupIterations = warmupIterations;
+    }
+
+    /**
+     * Replay trace warmup iterations times and then once more, measuring the last pass only.
+     */
+    void replay(@NonNull ScrollTraceReader reader) throws IOException {
+        for (int i = 0; i < warmupIterations; i++) {
+            replayPass(reader, false);
+        }
+
+        replayPass(reader, true);
+    }
+
+    void printReport(@NonNull String name, @NonNull PrintStream out) {
+        out.println(name);
+        out.println(String.format(Locale.US, "  events %d (scroll %d) over %.1f ms, type %s, interactive %b, count %d, max visible %d",
+                eventCount, scrollEventCount, traceDurationNanos / 1e6, style.getAnimationType(),
+                style.isInteractiveAnimation(), style.getCount(), style.getMaxVisibleCount()));
+        out.println(String.format(Locale.US, "  ns/event mean %d p50 %d p90 %d p99 %d max %d",
+                eventNanos.getMean(),
+                eventNanos.getValueAtPercentile(50),
+                eventNanos.getValueAtPercentile(90),
+                eventNanos.getValueAtPercentile(99),
+                eventNanos.getMax()));
+
+        if (allocatedBytes >= 0) {
+            out.println(String.format(Locale.US, "  allocated %d bytes, %.2f bytes/event",
+                    allocatedBytes, eventCount > 0 ? (double) allocatedBytes / eventCount : 0));
+        } else {
+            out.println("  allocated n/a (thread allocation counter is not supported by this JVM)");
+        }
+
+        out.println(String.format(Locale.US, "  invalidations full %d partial %d skipped %d",
+                fullInvalidations, partialInvalidations, skippedFrames));
+        out.println(String.format(Locale.US, "  frames %d, draw calls %d, animator restarts %d, quality tier %s",
+                frames, drawCalls, animatorRestarts, tier));
+        out.println(String.format(Locale.US, "  scroll state changes %d, gestures %d", scrollStateChanges, gestures));
+    }
+
+    @NonNull
+    Histogram getEventNanos() {
+        return eventNanos;
+    }
+
+    long getFullInvalidations() {
+        return fullInvalidations;
+    }
+
+    long getPartialInvalidations() {
+        return partialInvalidations;
+    }
+
+    long getSkippedFrames() {
+        return skippedFrames;
+    }
+
+    long getFrames() {
+        return frames;
+    }
+
+    long getDrawCalls() {
+        return drawCalls;
+    }
+
+    long getScrollStateChanges() {
+        return scrollStateChanges;
+    }
+
+    /**
+     * Return number of drags, each of them starting once pager leaves idle or settling state.
+     */
+    long getGestures() {
+        return gestures;
+    }
+
+    /**
+     * Return bytes allocated by measured pass, or -1 if JVM doesn't count allocations per thread.
+     */
+    long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    private void replayPass(@NonNull ScrollTraceReader reader, boolean isMeasured) throws IOException {
+        IndicatorMetrics metrics = new IndicatorMetrics();
+        AdaptiveQuality quality = isAdaptiveQuality ? new AdaptiveQuality() : null;
+        Bitmap bitmap = createIndicator(metrics, quality);
+
+        //let indicator settle after layout, so only trace events are measured
+        runUntilIdle();
+        view.reset();
+        canvas.reset();
+        metrics.reset();
+        resetResults();
+
+        reader.rewind();
+        long startMillis = scheduler.getCurrentTime();
+        long eventCostNanos = -1;
+
+        AllocationCounter allocationCounter = new AllocationCounter();
+        long startBytes = allocationCounter.getAllocatedBytes();
+
+        while (reader.next()) {
+            //work done until this event belongs to the previous one
+            long startNanos = System.nanoTime();
+            runUntil(startMillis + TimeUnit.NANOSECONDS.toMillis(reader.getTimeNanos()));
+            if (eventCostNanos >= 0) {
+                eventNanos.record(eventCostNanos + System.nanoTime() - startNanos);
+            }
+
+            startNanos = System.nanoTime();
+            dispatch(reader);
+            drawIfInvalidated();
+            eventCostNanos = System.nanoTime() - startNanos;
+
+            eventCount++;
+            traceDurationNanos = reader.getTimeNanos();
+        }
+
+        long startNanos = System.nanoTime();
+        runUntilIdle();
+        if (eventCostNanos >= 0) {
+            eventNanos.record(eventCostNanos + System.nanoTime() - startNanos);
+        }
+
+        long endBytes = allocationCounter.getAllocatedBytes();
+        if (isMeasured) {
+            allocatedBytes = allocationCounter.isSupported() ? endBytes - startBytes : -1;
+            fullInvalidations = view.getFullInvalidateCalls();
+            partialInvalidations = view.getPartialInvalidateCalls();
+            skippedFrames = metrics.getSkippedFrames();
+            frames = drawnFrames;
+            drawCalls = canvas.getDrawCalls();
+            animatorRestarts = metrics.getAnimatorRestarts();
+            tier = quality != null ? quality.getTier() : QualityTier.FULL;
+        }
+
+        bitmap.recycle();
+    }
+
+    /**
+     * Create indicator of replayed style, attach and lay it out as activity content.
+     *
+     * @return bitmap indicator is drawn into.
+     */
+    @NonNull
+    private Bitmap createIndicator(@NonNull IndicatorMetrics metrics, AdaptiveQuality quality) {
+        view = new CountingIndicatorView(activity);
+        view.setStyle(style);
+        view.setMetrics(metrics);
+        view.setAdaptiveQuality(quality);
+
+        activity.setContentView(view, new ViewGroup.LayoutParams(WIDTH, ViewGroup.LayoutParams.WRAP_CONTENT));
+        view.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+
+        Bitmap bitmap = Bitmap.createBitmap(view.getWidth(), Math.max(view.getHeight(), 1), Bitmap.Config.ARGB_8888);
+        canvas = new CountingCanvas(bitmap);
+        drawnFrames = 0;
+        scrollState = ScrollTrace.SCROLL_STATE_IDLE;
+        return bitmap;
+    }
+
+    private void dispatch(@NonNull ScrollTraceReader reader) {
+        switch (reader.getType()) {
+            case ScrollTrace.EVENT_PAGE_SCROLLED:
+                view.onPageScrolled(reader.getPosition(), reader.getPositionOffset(), 0);
+                scrollEventCount++;
+                break;
+
+            case ScrollTrace.EVENT_PAGE_SELECTED:
+                view.onPageSelected(reader.getPosition());
+                break;
+
+            case ScrollTrace.EVENT_SCROLL_STATE_CHANGED:
+                view.onPageScrollStateChanged(reader.getState());
+                onScrollStateChanged(reader.getState());
+                break;
+        }
+    }
+
+    private void onScrollStateChanged(int state) {
+        if (state == scrollState) {
+            return;
+        }
+
+        if (state == ScrollTrace.SCROLL_STATE_DRAGGING) {
+            gestures++;
+        }
+
+        scrollState = state;
+        scrollStateChanges++;
+    }
+
+    /**
+     * Run main looper tasks due until given time, advancing time by a millisecond while any task is pending
+     * and drawing indicator after each step it was invalidated in.
+     */
+    private void runUntil(long timeMillis) {
+        long time = scheduler.getCurrentTime();
+
+        while (true) {
+            scheduler.advanceTo(time);
+            drawIfInvalidated();
+
+            if (time >= timeMillis) {
+                return;
+            }
+
+            time = scheduler.size() > 0 ? time + 1 : timeMillis;
+        }
+    }
+
+    /**
+     * Run main looper tasks one by one until indicator stops scheduling work, e.g. once animations are finished.
+     */
+    private void runUntilIdle() {
+        for (int i = 0; i < MAX_TASKS; i++) {
+            drawIfInvalidated();
+
+            if (!scheduler.runOneTask() && !view.isInvalidated()) {
+                return;
+            }
+        }
+
+        throw new IllegalStateException("Indicator keeps scheduling work when nothing changes");
+    }
+
+    private void drawIfInvalidated() {
+        if (view.isInvalidated()) {
+            view.onFrameDrawn();
+
+            //JVM view doesn't dispatch onDraw(), so indicator is drawn same way onDraw() does
+            view.getIndicatorDrawable().draw(canvas);
+            drawnFrames++;
+        }
+    }
+
+    private void resetResults() {
+        eventNanos.reset();
+        eventCount = 0;
+        scrollEventCount = 0;
+        fullInvalidations = 0;
+        partialInvalidations = 0;
+        skippedFrames = 0;
+        frames = 0;
+        drawCalls = 0;
+        animatorRestarts = 0;
+        scrollStateChanges = 0;
+        gestures = 0;
+        traceDurationNanos = 0;
+        drawnFrames = 0;
+    }
+}
@@ -0,0 +1,159 @@
+package com.rd;
+
+import android.app.Activity;
+import android.support.annotation.NonNull;
+import com.rd.animation.AnimationType;
+import com.rd.core.ScrollTrace;
+import com.rd.core.ScrollTraceReader;
+import com.rd.core.ScrollTraceWriter;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks numbers reported by {@link ScrollTraceReplay} on synthetic traces and replays recorded traces
+ * passed with {@code -PtraceArgs}, e.g.
+ * {@code ./gradlew :pageindicatorview:testDebugUnitTest --tests com.rd.ScrollTraceReplayTest -PtraceArgs="--type=WORM --count=100 /path/trace.bin"}.
+ * Supported arguments are {@code --type=NONE|COLOR|SCALE|WORM|SLIDE}, {@code --count=N}, {@code --max-visible=N},
+ * {@code --max-frame-rate=N}, {@code --non-interactive}, {@code --adaptive}, {@code --warmup=N} and trace files.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 23, manifest = Config.NONE, shadows = ScrollAllocationTest.CallbackShadowDrawable.class)
+public class ScrollTraceReplayTest {
+
+    private static final long FRAME_NANOS = 16000000;
+
+    private ScrollTraceReplay replay;
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        replay = new ScrollTraceReplay(activity);
+        replay.setWarmupIterations(0);
+    }
+
+    @Test
+    public void gesturesAreCountedFromScrollState() throws IOException {
+        ScrollTraceWriter writer = new ScrollTraceWriter();
+        writer.writeScrollStateChanged(0, ScrollTrace.SCROLL_STATE_DRAGGING);
+        writer.writePageScrolled(FRAME_NANOS, 0, 0.5f);
+        writer.writeScrollStateChanged(2 * FRAME_NANOS, ScrollTrace.SCROLL_STATE_IDLE);
+        writer.writeScrollStateChanged(3 * FRAME_NANOS, ScrollTrace.SCROLL_STATE_DRAGGING);
+        writer.writeScrollStateChanged(4 * FRAME_NANOS, ScrollTrace.SCROLL_STATE_IDLE);
+
+        replay.replay(toReader(writer));
+
+        assertEquals(4, replay.getScrollStateChanges());
+        assertEquals(2, replay.getGestures());
+        assertEquals(5, replay.getEventNanos().getCount());
+
+        //interactive scroll of two circles invalidates only area around them
+        assertEquals(1, replay.getPartialInvalidations());
+        assertEquals(0, replay.getFullInvalidations());
+    }
+
+    @Test
+    public void scrollEventsWithinFrameAreCoalesced() throws IOException {
+        ScrollTraceWriter writer = new ScrollTraceWriter();
+        for (int i = 0; i < 10; i++) {
+            writer.writePageScrolled(i * 1000000L, 0, 0.05f * (i + 1));
+        }
+
+        replay.replay(toReader(writer));
+        assertEquals(1, replay.getPartialInvalidations() + replay.getFullInvalidations());
+        assertEquals(1, replay.getFrames());
+
+        replay.setStyle(createStyle(AnimationType.WORM, 10, 0, false));
+        replay.replay(toReader(writer));
+        assertEquals(10, replay.getPartialInvalidations() + replay.getFullInvalidations());
+    }
+
+    @Test
+    public void unchangedWindowedFrameIsSkipped() throws IOException {
+        ScrollTraceWriter writer = new ScrollTraceWriter();
+        writer.writePageScrolled(0, 3, 0.5f);
+        writer.writePageScrolled(FRAME_NANOS, 3, 0.5f);
+
+        replay.setStyle(createStyle(AnimationType.WORM, 100, 5, false));
+        replay.replay(toReader(writer));
+
+        assertEquals(1, replay.getFullInvalidations());
+        assertEquals(0, replay.getPartialInvalidations());
+        assertEquals(1, replay.getSkippedFrames());
+    }
+
+    @Test
+    public void replayRecordedTraces() throws IOException {
+        String traceArgs = System.getProperty("traceArgs");
+        assumeTrue(traceArgs != null && !traceArgs.trim().isEmpty());
+
+        AnimationType type = AnimationType.WORM;
+        int count = 10;
+        int maxVisibleCount = 0;
+        int maxFrameRate = 0;
+        boolean isInteractive = true;
+
+        for (String arg : traceArgs.trim().split("\\s+")) {
+            if (arg.startsWith("--type=")) {
+                type = AnimationType.valueOf(arg.substring("--type=".length()));
+            } else if (arg.startsWith("--count=")) {
+                count = Integer.parseInt(arg.substring("--count=".length()));
+            } else if (arg.startsWith("--max-visible=")) {
+                maxVisibleCount = Integer.parseInt(arg.substring("--max-visible=".length()));
+            } else if (arg.startsWith("--max-frame-rate=")) {
+                maxFrameRate = Integer.parseInt(arg.substring("--max-frame-rate=".length()));
+            } else if (arg.equals("--non-interactive")) {
+                isInteractive = false;
+            } else if (arg.equals("--adaptive")) {
+                replay.setAdaptiveQuality(true);
+            } else if (arg.startsWith("--warmup=")) {
+                replay.setWarmupIterations(Integer.parseInt(arg.substring("--warmup=".length())));
+            } else {
+                IndicatorStyle style = new IndicatorStyle.Builder(createStyle(type, count, maxVisibleCount, true))
+                        .setInteractiveAnimation(isInteractive)
+                        .setMaxFrameRate(maxFrameRate)
+                        .build();
+                replay.setStyle(style);
+
+                InputStream stream = new FileInputStream(new File(arg));
+                try {
+                    replay.replay(ScrollTraceReader.read(stream));
+                } finally {
+                    stream.close();
+                }
+
+                replay.printReport(arg, System.out);
+            }
+        }
+    }
+
+    @NonNull
+    private static IndicatorStyle createStyle(@NonNull AnimationType type, int count, int maxVisibleCount, boolean isCoalescing) {
+        return new IndicatorStyle.Builder()
+                .setCount(count)
+                .setAnimationType(type)
+                .setInteractiveAnimation(true)
+                .setScrollCoalescing(isCoalescing)
+                .setMaxVisibleCount(maxVisibleCount)
+                .build();
+    }
+
+    @NonNull
+    private static ScrollTraceReader toReader(@NonNull ScrollTraceWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.writeTo(bytes);
+        return new ScrollTraceReader(bytes.toByteArray());
+    }
+}
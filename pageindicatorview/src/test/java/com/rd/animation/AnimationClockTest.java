@@ -0,0 +1,127 @@
+package com.rd.animation;
+
+import android.animation.Animator;
+import android.animation.ValueAnimator;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Frames computed by {@link AnimationClock} should match frames own animators compute at the same fraction.
+ * Own animators are sought directly, as JVM frame time doesn't follow animation time used by clock.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 23, manifest = Config.NONE)
+public class AnimationClockTest {
+
+    private static final long DURATION = 320;
+    private static final int STEPS = 16;
+
+    private AnimationClock clock;
+    private RecordingListener timedListener;
+    private RecordingListener clockListener;
+
+    @Before
+    public void setUp() {
+        clock = new AnimationClock();
+        timedListener = new RecordingListener();
+        clockListener = new RecordingListener();
+    }
+
+    @Test
+    public void wormFollowsTimedCurve() {
+        WormAnimation timed = new WormAnimation(timedListener);
+        timed.with(0, 1000, 10, true).duration(DURATION);
+
+        WormAnimation clocked = new WormAnimation(clockListener);
+        clocked.clock(clock);
+        clocked.with(0, 1000, 10, true).duration(DURATION);
+        clocked.start();
+
+        List<Animator> children = timed.animator.getChildAnimations();
+        ValueAnimator straight = (ValueAnimator) children.get(0);
+        ValueAnimator reverse = (ValueAnimator) children.get(1);
+
+        for (int i = 1; i < STEPS; i++) {
+            float fraction = (float) i / STEPS;
+            straight.setCurrentFraction(Math.min(fraction * 2, 1));
+            reverse.setCurrentFraction(Math.max(fraction * 2 - 1, 0));
+
+            clock.tick(clocked.clockStartTime + (long) (fraction * DURATION));
+
+            assertEquals("left at " + fraction, timedListener.leftX, clockListener.leftX);
+            assertEquals("right at " + fraction, timedListener.rightX, clockListener.rightX);
+        }
+    }
+
+    @Test
+    public void frameWormFollowsTimedCurve() {
+        FrameAnimation timed = new FrameAnimation(timedListener);
+        timed.worm(0, 1000, 10, true).duration(DURATION);
+
+        FrameAnimation clocked = new FrameAnimation(clockListener);
+        clocked.clock(clock);
+        clocked.worm(0, 1000, 10, true).duration(DURATION);
+        clocked.start();
+
+        for (int i = 1; i < STEPS; i++) {
+            float fraction = (float) i / STEPS;
+            timed.animator.setCurrentFraction(fraction);
+
+            clock.tick(clocked.clockStartTime + (long) (fraction * DURATION));
+
+            assertEquals("left at " + fraction, timedListener.leftX, clockListener.leftX);
+            assertEquals("right at " + fraction, timedListener.rightX, clockListener.rightX);
+        }
+    }
+
+    @Test
+    public void slideFollowsTimedCurve() {
+        SlideAnimation timed = new SlideAnimation(timedListener);
+        timed.with(0, 1000).duration(DURATION);
+
+        SlideAnimation clocked = new SlideAnimation(clockListener);
+        clocked.clock(clock);
+        clocked.with(0, 1000).duration(DURATION);
+        clocked.start();
+
+        for (int i = 1; i < STEPS; i++) {
+            float fraction = (float) i / STEPS;
+            timed.animator.setCurrentFraction(fraction);
+
+            clock.tick(clocked.clockStartTime + (long) (fraction * DURATION));
+
+            assertEquals("x at " + fraction, timedListener.xCoordinate, clockListener.xCoordinate);
+        }
+    }
+
+    private static class RecordingListener implements AnimationUpdateListener {
+
+        private int leftX;
+        private int rightX;
+        private int xCoordinate;
+
+        @Override
+        public void onColorAnimationUpdated(int color, int colorReverse) {/*empty*/}
+
+        @Override
+        public void onScaleAnimationUpdated(int color, int colorReverse, int radius, int radiusReverse) {/*empty*/}
+
+        @Override
+        public void onWormAnimationUpdated(int leftX, int rightX) {
+            this.leftX = leftX;
+            this.rightX = rightX;
+        }
+
+        @Override
+        public void onSlideAnimationUpdated(int xCoordinate) {
+            this.xCoordinate = xCoordinate;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.rd.animation;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MotionPolicyTest {
+
+    private FakeDeviceStateProvider provider;
+    private MotionPolicy policy;
+
+    @Before
+    public void setUp() {
+        provider = new FakeDeviceStateProvider();
+        policy = new MotionPolicy(provider);
+    }
+
+    @Test
+    public void animationEnabledByDefault() {
+        assertTrue(policy.isAnimationEnabled());
+        assertEquals(1f, policy.getDurationScale(), 0);
+    }
+
+    @Test
+    public void animationDisabledWithZeroDurationScale() {
+        provider.durationScale = 0;
+
+        assertFalse(policy.isAnimationEnabled());
+    }
+
+    @Test
+    public void durationScaleIsReported() {
+        provider.durationScale = 0.5f;
+
+        assertTrue(policy.isAnimationEnabled());
+        assertEquals(0.5f, policy.getDurationScale(), 0);
+    }
+
+    @Test
+    public void animationDisabledInPowerSave() {
+        provider.isPowerSaveMode = true;
+
+        assertFalse(policy.isAnimationEnabled());
+    }
+
+    @Test
+    public void animationEnabledInPowerSaveIfAllowed() {
+        provider.isPowerSaveMode = true;
+        policy.setInstantInPowerSave(false);
+
+        assertTrue(policy.isAnimationEnabled());
+    }
+
+    @Test
+    public void stateIsReadOnceUntilRefreshed() {
+        assertTrue(policy.isAnimationEnabled());
+
+        provider.durationScale = 0;
+        assertTrue(policy.isAnimationEnabled());
+        assertEquals(1f, policy.getDurationScale(), 0);
+        assertEquals(1, provider.reads);
+
+        policy.refresh();
+        assertFalse(policy.isAnimationEnabled());
+        assertEquals(2, provider.reads);
+    }
+
+    @Test
+    public void refreshDropsCachedState() {
+        assertTrue(policy.isAnimationEnabled());
+
+        provider.isPowerSaveMode = true;
+        policy.refresh();
+
+        assertFalse(policy.isAnimationEnabled());
+    }
+
+    private static class FakeDeviceStateProvider implements DeviceStateProvider {
+
+        private float durationScale = 1;
+        private boolean isPowerSaveMode;
+        private int reads;
+
+        @Override
+        public float getAnimatorDurationScale() {
+            reads++;
+            return durationScale;
+        }
+
+        @Override
+        public boolean isPowerSaveMode() {
+            return isPowerSaveMode;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.rd.draw;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.support.annotation.NonNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowChoreographer;
+import org.robolectric.util.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 23, manifest = Config.NONE)
+public class ColorIndicatorAnimatorTest {
+
+    private static final int UNSELECTED_COLOR = Color.BLACK;
+    private static final int SELECTED_COLOR = Color.WHITE;
+    private static final int FRAMES_TO_RUN = 3;
+
+    private Scheduler scheduler;
+    private TestIndicator indicator;
+    private ColorIndicatorAnimator animator;
+    private Canvas canvas = new Canvas();
+
+    @Before
+    public void setUp() {
+        scheduler = Robolectric.getForegroundThreadScheduler();
+        scheduler.pause();
+        ShadowChoreographer.setFrameInterval(TimeUnit.MILLISECONDS.toNanos(16));
+
+        indicator = new TestIndicator();
+        animator = new ColorIndicatorAnimator();
+        animator.attach(indicator);
+        animator.reset();
+    }
+
+    @Test
+    public void retargetContinuesPreviousCircleFromCurrentFrame() {
+        assertRetargetContinuesPreviousCircle();
+    }
+
+    @Test
+    public void retargetContinuesPreviousCircleWithFrameAnimation() {
+        indicator.isFrameAnimation = true;
+        assertRetargetContinuesPreviousCircle();
+    }
+
+    @Test
+    public void reversedRetargetHasNoTrailingCircle() {
+        indicator.select(1);
+        animator.start(false, false);
+        runFrames(FRAMES_TO_RUN);
+
+        indicator.select(0);
+        animator.start(true, true);
+
+        assertEquals(IndicatorAnimator.NO_POSITION, animator.getTrailingPosition());
+    }
+
+    @Test
+    public void progressClearsTrailingCircle() {
+        indicator.select(1);
+        animator.start(false, false);
+        runFrames(FRAMES_TO_RUN);
+
+        indicator.select(2);
+        animator.start(true, false);
+        animator.progress(0.5f);
+
+        assertEquals(IndicatorAnimator.NO_POSITION, animator.getTrailingPosition());
+    }
+
+    private void assertRetargetContinuesPreviousCircle() {
+        indicator.select(1);
+        animator.start(false, false);
+        runFrames(FRAMES_TO_RUN);
+
+        animator.draw(canvas, 0, 0, true);
+        int color = indicator.drawnColor;
+        assertNotEquals(UNSELECTED_COLOR, color);
+        assertNotEquals(SELECTED_COLOR, color);
+
+        indicator.select(2);
+        animator.start(true, false);
+
+        assertEquals(0, animator.getTrailingPosition());
+        animator.drawTrailing(canvas, 0, 0);
+        assertEquals(color, indicator.drawnColor);
+
+        runFrames(Integer.MAX_VALUE);
+        assertFalse(animator.isRunning());
+
+        animator.drawTrailing(canvas, 0, 0);
+        assertEquals(UNSELECTED_COLOR, indicator.drawnColor);
+        assertEquals(IndicatorAnimator.NO_POSITION, animator.getTrailingPosition());
+    }
+
+    private void runFrames(int frames) {
+        for (int i = 0; i < frames && scheduler.runOneTask(); i++) {
+            //run animation frame
+        }
+    }
+
+    private static class TestIndicator implements IndicatorAnimator.Indicator {
+
+        private int selectedPosition;
+        private int lastSelectedPosition;
+        private boolean isFrameAnimation;
+
+        private Paint paint = new Paint();
+        private int drawnColor;
+
+        void select(int position) {
+            lastSelectedPosition = selectedPosition;
+            selectedPosition = position;
+        }
+
+        @Override
+        public int getSelectedPosition() {
+            return selectedPosition;
+        }
+
+        @Override
+        public int getSelectingPosition() {
+            return selectedPosition;
+        }
+
+        @Override
+        public int getLastSelectedPosition() {
+            return lastSelectedPosition;
+        }
+
+        @Override
+        public int getXCoordinate(int position) {
+            return position * 10;
+        }
+
+        @Override
+        public int getRadiusPx() {
+            return 4;
+        }
+
+        @Override
+        public float getScaleFactor() {
+            return 1.7f;
+        }
+
+        @Override
+        public int getUnselectedColor() {
+            return UNSELECTED_COLOR;
+        }
+
+        @Override
+        public int getSelectedColor() {
+            return SELECTED_COLOR;
+        }
+
+        @Override
+        public long getAnimationDuration() {
+            return 160;
+        }
+
+        @Override
+        public boolean isFrameAnimation() {
+            return isFrameAnimation;
+        }
+
+        @NonNull
+        @Override
+        public Paint getPaint() {
+            return paint;
+        }
+
+        @Override
+        public void drawDot(@NonNull Canvas canvas, int x, int y, int radius) {
+            drawnColor = paint.getColor();
+        }
+
+        @Override
+        public void onAnimationUpdated(boolean isFrameChanged) {/*empty*/}
+    }
+}
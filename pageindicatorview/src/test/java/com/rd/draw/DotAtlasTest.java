@@ -0,0 +1,136 @@
+package com.rd.draw;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 23, manifest = Config.NONE)
+public class DotAtlasTest {
+
+    private DotAtlas atlas;
+    private BlitCanvas canvas;
+    private Paint paint;
+
+    @Before
+    public void setUp() {
+        atlas = new DotAtlas();
+        canvas = new BlitCanvas();
+        paint = new Paint();
+    }
+
+    @Test
+    public void drawIsSkippedUntilPrepared() {
+        assertFalse(atlas.draw(canvas, 10, 10, 4, paint));
+        assertEquals(0, canvas.blits);
+    }
+
+    @Test
+    public void drawIsSkippedOutsideOfRange() {
+        atlas.prepare(2, 6, true);
+
+        assertFalse(atlas.draw(canvas, 10, 10, 1, paint));
+        assertFalse(atlas.draw(canvas, 10, 10, 7, paint));
+        assertEquals(0, canvas.blits);
+    }
+
+    @Test
+    public void prepareReportsEmptyRange() {
+        assertTrue(atlas.prepare(2, 6, true));
+        assertTrue(atlas.prepare(2, 6, true));
+
+        assertFalse(atlas.prepare(6, 2, true));
+        assertFalse(atlas.prepare(0, 0, true));
+        assertFalse(atlas.draw(canvas, 10, 10, 1, paint));
+        assertEquals(0, canvas.blits);
+    }
+
+    @Test
+    public void dotIsCenteredWithMargin() {
+        atlas.prepare(2, 6, true);
+
+        assertTrue(atlas.draw(canvas, 20, 30, 4, paint));
+        assertEquals(1, canvas.blits);
+        assertEquals(new Rect(15, 25, 25, 35), canvas.dst);
+        assertEquals(10, canvas.src.width());
+        assertEquals(10, canvas.src.height());
+        assertSame(paint, canvas.paint);
+    }
+
+    @Test
+    public void atlasIsRebuiltOnlyForNewRange() {
+        atlas.prepare(2, 6, true);
+        atlas.draw(canvas, 20, 30, 6, paint);
+        Bitmap bitmap = canvas.bitmap;
+
+        atlas.prepare(2, 6, true);
+        atlas.draw(canvas, 20, 30, 6, paint);
+
+        assertSame(bitmap, canvas.bitmap);
+        assertFalse(bitmap.isRecycled());
+
+        atlas.prepare(2, 8, true);
+
+        assertTrue(bitmap.isRecycled());
+    }
+
+    @Test
+    public void atlasIsRebuiltForNewAntiAlias() {
+        atlas.prepare(2, 6, true);
+        atlas.draw(canvas, 20, 30, 6, paint);
+        Bitmap bitmap = canvas.bitmap;
+
+        atlas.prepare(2, 6, false);
+        atlas.draw(canvas, 20, 30, 6, paint);
+
+        assertTrue(bitmap.isRecycled());
+        assertFalse(canvas.bitmap.isRecycled());
+    }
+
+    @Test
+    public void releaseDropsBitmap() {
+        atlas.prepare(2, 6, true);
+        atlas.draw(canvas, 20, 30, 6, paint);
+        assertNotNull(canvas.bitmap);
+
+        atlas.release();
+
+        assertTrue(canvas.bitmap.isRecycled());
+        assertFalse(atlas.draw(canvas, 20, 30, 6, paint));
+    }
+
+    /**
+     * Records bitmap blits issued by atlas.
+     */
+    private static class BlitCanvas extends Canvas {
+
+        private int blits;
+        private Bitmap bitmap;
+        private Rect src = new Rect();
+        private Rect dst = new Rect();
+        private Paint paint;
+
+        @Override
+        public void drawBitmap(@NonNull Bitmap bitmap, @Nullable Rect src, @NonNull Rect dst, @Nullable Paint paint) {
+            blits++;
+            this.bitmap = bitmap;
+            this.src.set(src);
+            this.dst.set(dst);
+            this.paint = paint;
+        }
+    }
+}